@@ -0,0 +1,71 @@
+package com.wolfedgetech.justuple.benchmarks;
+
+import java.util.function.IntFunction;
+
+/**
+ * The kinds of tuple members exercised by the benchmarks. {@code Tuple.of} picks a different Tuple implementation
+ * depending on whether the members are {@code Serializable}, so both kinds are measured.
+ */
+public enum Members {
+
+    SERIALIZABLE(Integer::valueOf),
+    NON_SERIALIZABLE(Key::new);
+
+    private final IntFunction<Object> factory;
+
+    Members(IntFunction<Object> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Return a member value derived from the given seed. Equal seeds produce equal members.
+     *
+     * @param seed any int
+     * @return a non-null member
+     */
+    public Object create(int seed) {
+        return factory.apply(seed);
+    }
+
+    /**
+     * Return an array of {@code size} members derived from the seeds {@code offset} to {@code offset + size}.
+     *
+     * @param size   the number of members
+     * @param offset the first seed
+     * @return an array of non-null members
+     */
+    public Object[] createAll(int size, int offset) {
+        Object[] members = new Object[size];
+        for (int i = 0; i < size; ++i) {
+            members[i] = create(offset + i);
+        }
+        return members;
+    }
+
+    /*
+     * A comparable member that deliberately does not implement Serializable.
+     */
+    static final class Key implements Comparable<Key> {
+
+        private final int value;
+
+        Key(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            return Integer.compare(value, other.value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && ((Key) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value;
+        }
+    }
+}
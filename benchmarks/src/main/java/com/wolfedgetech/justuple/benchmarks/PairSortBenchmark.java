@@ -0,0 +1,67 @@
+package com.wolfedgetech.justuple.benchmarks;
+
+import com.wolfedgetech.justuple.IntIntTuple;
+import com.wolfedgetech.justuple.Tuples;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of sorting primitive pairs, comparing the radix sorts of {@code Tuples} with sorting primitive tuples by
+ * {@code compareTo}. The arrays are restored to the same random order before every invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PairSortBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    private int[] unsortedFirsts;
+    private int[] unsortedSeconds;
+    private int[] firsts;
+    private int[] seconds;
+    private List<IntIntTuple> tuples;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(size);
+        unsortedFirsts = random.ints(size).toArray();
+        unsortedSeconds = random.ints(size).toArray();
+        firsts = new int[size];
+        seconds = new int[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void unsort() {
+        System.arraycopy(unsortedFirsts, 0, firsts, 0, size);
+        System.arraycopy(unsortedSeconds, 0, seconds, 0, size);
+        tuples = new ArrayList<>(Tuples.zip(unsortedFirsts, unsortedSeconds));
+    }
+
+    @Benchmark
+    public int[] sortInts() {
+        Tuples.sort(firsts, seconds);
+        return firsts;
+    }
+
+    @Benchmark
+    public int[] parallelSortInts() {
+        Tuples.parallelSort(firsts, seconds);
+        return firsts;
+    }
+
+    @Benchmark
+    public List<IntIntTuple> sortIntIntTuples() {
+        Collections.sort(tuples);
+        return tuples;
+    }
+}
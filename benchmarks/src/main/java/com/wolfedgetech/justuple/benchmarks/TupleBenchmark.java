@@ -0,0 +1,87 @@
+package com.wolfedgetech.justuple.benchmarks;
+
+import com.wolfedgetech.justuple.Tuple;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the per-instance {@code Tuple} operations. Each invocation processes {@code size} tuples so that
+ * hash and comparison costs are measured over working sets that do and do not fit in cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TupleBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    @Param
+    Members members;
+
+    private Object[] firsts;
+    private Object[] seconds;
+    private Tuple<Object, Object>[] tuples;
+    private Tuple<Object, Object>[] equalTuples;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        firsts = members.createAll(size, 0);
+        seconds = members.createAll(size, size);
+        tuples = new Tuple[size];
+        equalTuples = new Tuple[size];
+        for (int i = 0; i < size; ++i) {
+            tuples[i] = Tuple.of(firsts[i], seconds[i]);
+            equalTuples[i] = Tuple.of(members.create(i), members.create(size + i));
+        }
+    }
+
+    @Benchmark
+    public void of(Blackhole blackhole) {
+        for (int i = 0; i < size; ++i) {
+            blackhole.consume(Tuple.of(firsts[i], seconds[i]));
+        }
+    }
+
+    @Benchmark
+    public void swapped(Blackhole blackhole) {
+        for (Tuple<Object, Object> tuple : tuples) {
+            blackhole.consume(tuple.swapped());
+        }
+    }
+
+    @Benchmark
+    public int hashCodes() {
+        int sum = 0;
+        for (Tuple<Object, Object> tuple : tuples) {
+            sum += tuple.hashCode();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int equalities() {
+        int count = 0;
+        for (int i = 0; i < size; ++i) {
+            if (tuples[i].equals(equalTuples[i])) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int compareTo() {
+        int sum = 0;
+        for (int i = 1; i < size; ++i) {
+            sum += tuples[i - 1].compareTo(tuples[i]);
+        }
+        return sum;
+    }
+}
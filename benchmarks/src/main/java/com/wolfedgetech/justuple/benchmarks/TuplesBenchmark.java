@@ -0,0 +1,144 @@
+package com.wolfedgetech.justuple.benchmarks;
+
+import com.wolfedgetech.justuple.Aggregator;
+import com.wolfedgetech.justuple.Tuple;
+import com.wolfedgetech.justuple.Tuples;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks of the bulk conversions offered by {@code Tuples}, parameterized by the number of tuples (or items)
+ * converted per invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TuplesBenchmark {
+
+    /*
+     * On average, this many tuples share the same first member in the mapAll, groupReduce and join benchmarks.
+     */
+    private static final int GROUP_SIZE = 10;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    @Param
+    Members members;
+
+    private Object[] firsts;
+    private Object[] seconds;
+    private List<Object> firstList;
+    private List<Object> secondList;
+    private List<Tuple<Object, Object>> tuples;
+    private List<Tuple<Object, Object>> groupedTuples;
+
+    @Setup
+    public void setUp() {
+        firsts = members.createAll(size, 0);
+        seconds = members.createAll(size, size);
+        firstList = Arrays.asList(firsts);
+        secondList = Arrays.asList(seconds);
+        tuples = new ArrayList<>(size);
+        groupedTuples = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            tuples.add(Tuple.of(firsts[i], seconds[i]));
+            groupedTuples.add(Tuple.of(members.create(i / GROUP_SIZE), seconds[i]));
+        }
+    }
+
+    @Benchmark
+    public Map<Object, Object> map() {
+        return Tuples.map(tuples);
+    }
+
+    @Benchmark
+    public Map<Object, Object> mapCompact() {
+        return Tuples.mapCompact(tuples);
+    }
+
+    @Benchmark
+    public Map<Object, List<Object>> mapAll() {
+        return Tuples.mapAll(groupedTuples);
+    }
+
+    @Benchmark
+    public Map<Object, Object> parallelConcurrentMap() {
+        return tuples.parallelStream().collect(Tuples.concurrentMapCollector());
+    }
+
+    @Benchmark
+    public Map<Object, List<Object>> parallelConcurrentMapAll() {
+        return groupedTuples.parallelStream().collect(Tuples.concurrentMapAllCollector());
+    }
+
+    @Benchmark
+    public Map<Object, Long> groupReduceCount() {
+        return Tuples.groupReduce(groupedTuples, Aggregator.count());
+    }
+
+    @Benchmark
+    public List<Tuple<Object, Object>> collector() {
+        return firstList.stream().collect(Tuples.collector());
+    }
+
+    @Benchmark
+    public List<Tuple<Object, Object>> parallelCollector() {
+        return firstList.parallelStream().collect(Tuples.collector());
+    }
+
+    @Benchmark
+    public List<Tuple<Object, Object>> zipArrays() {
+        return Tuples.zip(firsts, seconds);
+    }
+
+    @Benchmark
+    public List<Tuple<Object, Object>> pairs() {
+        return Tuples.pairs(firsts, seconds);
+    }
+
+    @Benchmark
+    public List<Tuple<Object, Object>> ofAll() {
+        return Tuples.ofAll(firstList, Function.identity());
+    }
+
+    @Benchmark
+    public List<Tuple<Object, Object>> zipLists() {
+        return Tuples.zip(firstList, secondList);
+    }
+
+    @Benchmark
+    public List<Tuple<Object, Object>> zipStream() {
+        return Tuples.zipStream(firstList, secondList).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Tuple<Object, Object>> parallelZipStream() {
+        return Tuples.zipStream(firstList, secondList).parallel().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Tuple<Object, Object>> join() {
+        return Tuples.join(groupedTuples.stream(), tuples.stream()).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Tuple<List<Object>, List<Object>> unzip() {
+        return Tuples.unzip(tuples);
+    }
+
+    @Benchmark
+    public Tuple<List<Object>, List<Object>> parallelUnzip() {
+        return Tuples.parallelUnzip(tuples);
+    }
+}
@@ -0,0 +1,188 @@
+package com.wolfedgetech.justuple;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+ * Reduces the values grouped under one key by {@link Tuples#groupReduce(Iterable, Aggregator)} to a single result.
+ * Values are accumulated into a mutable container created per key; containers of the same key are combined when
+ * groups are reduced in parallel, and each is finally transformed into the result. This mirrors a
+ * {@code java.util.stream.Collector}, from which an Aggregator can also be adapted.
+ *
+ * @param <V> the type of the values
+ * @param <A> the type of the mutable containers
+ * @param <R> the type of the results
+ */
+public interface Aggregator<V, A, R> {
+
+    /**
+     * Return a new, empty container.
+     *
+     * @return a non-null container
+     */
+    A create();
+
+    /**
+     * Add the value to the container.
+     *
+     * @param container never null
+     * @param value     may be null
+     */
+    void accumulate(A container, V value);
+
+    /**
+     * Combine two containers, the second holding values encountered after those of the first.
+     *
+     * @param container      never null
+     * @param otherContainer never null
+     * @return a container holding both containers' values, which may be either argument
+     */
+    A combine(A container, A otherContainer);
+
+    /**
+     * Return the result for the values in the container.
+     *
+     * @param container never null
+     * @return the result, which may be null
+     */
+    R finish(A container);
+
+    /**
+     * Return an Aggregator made of the given functions.
+     *
+     * @param create     creates the containers
+     * @param accumulate adds a value to a container
+     * @param combine    combines two containers
+     * @param finish     transforms a container into the result
+     * @param <V>        the type of the values
+     * @param <A>        the type of the mutable containers
+     * @param <R>        the type of the results
+     * @return an Aggregator
+     */
+    static <V, A, R> Aggregator<V, A, R> of(Supplier<A> create, BiConsumer<A, ? super V> accumulate,
+                                            BinaryOperator<A> combine, Function<A, R> finish) {
+        return new Aggregators.FunctionalAggregator<>(create, accumulate, combine, finish);
+    }
+
+    /**
+     * Return an Aggregator that reduces values as the given Collector does.
+     *
+     * @param collector may not be null
+     * @param <V>       the type of the values
+     * @param <A>       the type of the mutable containers
+     * @param <R>       the type of the results
+     * @return an Aggregator
+     */
+    static <V, A, R> Aggregator<V, A, R> of(Collector<? super V, A, R> collector) {
+        return of(collector.supplier(), collector.accumulator(), collector.combiner(), collector.finisher());
+    }
+
+    /**
+     * Return an Aggregator counting the values, including {@code null} values.
+     *
+     * @param <V> the type of the values
+     * @return an Aggregator whose result is never null
+     */
+    static <V> Aggregator<V, ?, Long> count() {
+        return of(() -> new long[1], (sum, value) -> ++sum[0], Aggregators::addLongs, sum -> sum[0]);
+    }
+
+    /**
+     * Return an Aggregator summing the values mapped to longs.
+     *
+     * @param mapper maps every value, possibly null, to a long
+     * @param <V>    the type of the values
+     * @return an Aggregator whose result is never null
+     */
+    static <V> Aggregator<V, ?, Long> summingLong(ToLongFunction<? super V> mapper) {
+        return of(() -> new long[1], (sum, value) -> sum[0] += mapper.applyAsLong(value), Aggregators::addLongs,
+                sum -> sum[0]);
+    }
+
+    /**
+     * Return an Aggregator summing the values mapped to doubles.
+     *
+     * @param mapper maps every value, possibly null, to a double
+     * @param <V>    the type of the values
+     * @return an Aggregator whose result is never null
+     */
+    static <V> Aggregator<V, ?, Double> summingDouble(ToDoubleFunction<? super V> mapper) {
+        return of(() -> new double[1], (sum, value) -> sum[0] += mapper.applyAsDouble(value),
+                Aggregators::addDoubles, sum -> sum[0]);
+    }
+
+    /**
+     * Return an Aggregator selecting the least non-null value in natural order. Of equal values, the first is
+     * selected.
+     *
+     * @param <V> the type of the values
+     * @return an Aggregator whose result is null if there are no non-null values
+     */
+    static <V extends Comparable<? super V>> Aggregator<V, ?, V> min() {
+        return min(Comparator.naturalOrder());
+    }
+
+    /**
+     * Return an Aggregator selecting the least non-null value according to the Comparator. Of equal values, the first
+     * is selected.
+     *
+     * @param comparator may not be null
+     * @param <V>        the type of the values
+     * @return an Aggregator whose result is null if there are no non-null values
+     */
+    static <V> Aggregator<V, ?, V> min(Comparator<? super V> comparator) {
+        return Aggregators.selecting((value, selected) -> comparator.compare(value, selected) < 0);
+    }
+
+    /**
+     * Return an Aggregator selecting the greatest non-null value in natural order. Of equal values, the first is
+     * selected.
+     *
+     * @param <V> the type of the values
+     * @return an Aggregator whose result is null if there are no non-null values
+     */
+    static <V extends Comparable<? super V>> Aggregator<V, ?, V> max() {
+        return max(Comparator.naturalOrder());
+    }
+
+    /**
+     * Return an Aggregator selecting the greatest non-null value according to the Comparator. Of equal values, the
+     * first is selected.
+     *
+     * @param comparator may not be null
+     * @param <V>        the type of the values
+     * @return an Aggregator whose result is null if there are no non-null values
+     */
+    static <V> Aggregator<V, ?, V> max(Comparator<? super V> comparator) {
+        return Aggregators.selecting((value, selected) -> comparator.compare(value, selected) > 0);
+    }
+
+    /**
+     * Return an Aggregator selecting the first value encountered, even if it is null.
+     *
+     * @param <V> the type of the values
+     * @return an Aggregator
+     */
+    static <V> Aggregator<V, ?, V> first() {
+        return Aggregator.<V, Aggregators.Selection<V>, V>of(Aggregators.Selection::new,
+                Aggregators.Selection::offerFirst, Aggregators.Selection::orFirst, Aggregators.Selection::get);
+    }
+
+    /**
+     * Return an Aggregator listing the values in encounter order, as {@code Tuples.mapAll} does.
+     *
+     * @param <V> the type of the values
+     * @return an Aggregator whose result is a modifiable List
+     */
+    static <V> Aggregator<V, ?, List<V>> toList() {
+        return of(ArrayList::new, List::add, Aggregators::addAll, Function.identity());
+    }
+}
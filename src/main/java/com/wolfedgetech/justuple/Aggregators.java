@@ -0,0 +1,114 @@
+package com.wolfedgetech.justuple;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The containers and combining functions of the built-in {@code Aggregator} implementations.
+ */
+final class Aggregators {
+
+    private Aggregators() {
+        /* prevent instantiation */
+    }
+
+    static long[] addLongs(long[] sum, long[] otherSum) {
+        sum[0] += otherSum[0];
+        return sum;
+    }
+
+    static double[] addDoubles(double[] sum, double[] otherSum) {
+        sum[0] += otherSum[0];
+        return sum;
+    }
+
+    static <V> List<V> addAll(List<V> values, List<V> otherValues) {
+        values.addAll(otherValues);
+        return values;
+    }
+
+    /*
+     * Selects the first non-null value, then any later non-null value preferred over the selected one.
+     */
+    static <V> Aggregator<V, Selection<V>, V> selecting(BiPredicate<? super V, ? super V> isPreferred) {
+        return Aggregator.of(
+                Selection::new,
+                (selection, value) -> {
+                    if (value != null && (!selection.present || isPreferred.test(value, selection.value))) {
+                        selection.set(value);
+                    }
+                },
+                (selection, otherSelection) -> otherSelection.present
+                        && (!selection.present || isPreferred.test(otherSelection.value, selection.value))
+                        ? otherSelection : selection,
+                Selection::get
+        );
+    }
+
+    /*
+     * A value that may be absent, which is distinct from a null value.
+     */
+    static final class Selection<V> {
+        private V value;
+        private boolean present;
+
+        void set(V value) {
+            this.value = value;
+            this.present = true;
+        }
+
+        void offerFirst(V value) {
+            if (!present) {
+                set(value);
+            }
+        }
+
+        Selection<V> orFirst(Selection<V> otherSelection) {
+            return present ? this : otherSelection;
+        }
+
+        V get() {
+            return value;
+        }
+    }
+
+    static final class FunctionalAggregator<V, A, R> implements Aggregator<V, A, R> {
+
+        private final Supplier<A> create;
+        private final BiConsumer<A, ? super V> accumulate;
+        private final BinaryOperator<A> combine;
+        private final Function<A, R> finish;
+
+        FunctionalAggregator(Supplier<A> create, BiConsumer<A, ? super V> accumulate, BinaryOperator<A> combine,
+                             Function<A, R> finish) {
+            this.create = create;
+            this.accumulate = accumulate;
+            this.combine = combine;
+            this.finish = finish;
+        }
+
+        @Override
+        public A create() {
+            return create.get();
+        }
+
+        @Override
+        public void accumulate(A container, V value) {
+            accumulate.accept(container, value);
+        }
+
+        @Override
+        public A combine(A container, A otherContainer) {
+            return combine.apply(container, otherContainer);
+        }
+
+        @Override
+        public R finish(A container) {
+            return finish.apply(container);
+        }
+    }
+}
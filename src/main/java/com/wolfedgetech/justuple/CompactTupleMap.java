@@ -0,0 +1,202 @@
+package com.wolfedgetech.justuple;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * An unmodifiable Map built once from tuples and optimized for reads. Keys and values are stored next to each other
+ * in a single open-addressed, linearly probed array, so there is no node object per entry and a lookup usually reads
+ * one cache line. A {@code null} key is stored as a sentinel, since an empty slot is {@code null}; {@code null} values
+ * are supported too.
+ * <p>
+ * Entries are only added through {@link #putUnique}, which {@code Tuples.mapCompact} calls while building the map
+ * before it is published.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class CompactTupleMap<K, V> extends AbstractMap<K, V> {
+
+    private static final Object NULL_KEY = new Object();
+
+    private static final int MIN_CAPACITY = 8;
+    private static final int MAX_CAPACITY = 1 << 29;
+
+    /*
+     * Keys at even indexes, each followed by its value; a null key marks an empty slot.
+     */
+    private Object[] table;
+    private int size;
+
+    CompactTupleMap(int expectedSize) {
+        table = new Object[2 * capacityFor(expectedSize)];
+    }
+
+    /*
+     * The smallest power of two that keeps the load factor at or below one half.
+     */
+    private static int capacityFor(int size) {
+        if (size > MAX_CAPACITY / 2) {
+            return MAX_CAPACITY;
+        }
+        int capacity = MIN_CAPACITY;
+        while (capacity < 2 * size) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static Object mask(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    /*
+     * Return the table index of the key, or the bitwise complement of the empty index where it would be inserted.
+     */
+    private int find(Object maskedKey) {
+        int mask = table.length - 1;
+        int h = maskedKey.hashCode();
+        for (int index = ((h ^ (h >>> 16)) << 1) & mask; ; index = (index + 2) & mask) {
+            Object slotKey = table[index];
+            if (slotKey == null) {
+                return ~index;
+            } else if (slotKey == maskedKey || slotKey.equals(maskedKey)) {
+                return index;
+            }
+        }
+    }
+
+    /*
+     * Add the entry, or fail if the key is already present, as Tuples.map does.
+     */
+    void putUnique(K key, V value) {
+        Object maskedKey = mask(key);
+        int index = find(maskedKey);
+        if (index >= 0) {
+            throw new IllegalStateException("Duplicate key " + key);
+        }
+        int capacity = table.length / 2;
+        if (2 * (size + 1) > capacity && capacity < MAX_CAPACITY) {
+            rehash(table.length * 2);
+            index = find(maskedKey);
+        } else if (size + 1 == capacity) {
+            throw new IllegalStateException("Map is full at " + size + " entries");
+        }
+        table[~index] = maskedKey;
+        table[~index + 1] = value;
+        ++size;
+    }
+
+    private void rehash(int length) {
+        Object[] oldTable = table;
+        table = new Object[length];
+        for (int i = 0; i < oldTable.length; i += 2) {
+            Object maskedKey = oldTable[i];
+            if (maskedKey != null) {
+                int index = ~find(maskedKey);
+                table[index] = maskedKey;
+                table[index + 1] = oldTable[i + 1];
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int index = find(mask(key));
+        return index < 0 ? null : (V) table[index + 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Object key, V defaultValue) {
+        int index = find(mask(key));
+        return index < 0 ? defaultValue : (V) table[index + 1];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(mask(key)) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < table.length; i += 2) {
+            if (table[i] != null && (value == null ? table[i + 1] == null : value.equals(table[i + 1]))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < table.length; i += 2) {
+            Object maskedKey = table[i];
+            if (maskedKey != null) {
+                action.accept(maskedKey == NULL_KEY ? null : (K) maskedKey, (V) table[i + 1]);
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new EntrySet();
+    }
+
+    private class EntrySet extends AbstractSet<Entry<K, V>> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new Iterator<Entry<K, V>>() {
+                private int index = nextIndex(0);
+
+                private int nextIndex(int from) {
+                    int i = from;
+                    while (i < table.length && table[i] == null) {
+                        i += 2;
+                    }
+                    return i;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return index < table.length;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public Entry<K, V> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Object maskedKey = table[index];
+                    Entry<K, V> entry = new SimpleImmutableEntry<>(
+                            maskedKey == NULL_KEY ? null : (K) maskedKey, (V) table[index + 1]);
+                    index = nextIndex(index + 2);
+                    return entry;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.wolfedgetech.justuple;
+
+import java.io.Serializable;
+
+/**
+ * An ordered pair of {@code double} values. Immutable and thread-safe.
+ * <p>
+ * This is the primitive specialization of {@code Tuple<Double, Double>}. Its primitive members are stored unboxed, so
+ * creating an instance allocates a single object. Two instances are equal exactly when their boxed forms returned by
+ * {@link #toTuple()} are equal, and hash code, ordering and string form match the boxed form as well.
+ *
+ * @see Tuple
+ */
+public final class DoubleDoubleTuple implements Comparable<DoubleDoubleTuple>, Serializable {
+
+    private static final long serialVersionUID = 20261015;
+
+    private final double first;
+    private final double second;
+
+    private DoubleDoubleTuple(double first, double second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Return a DoubleDoubleTuple of the given values.
+     *
+     * @param first  the first member
+     * @param second the second member
+     * @return a DoubleDoubleTuple of the two arguments.
+     */
+    public static DoubleDoubleTuple of(double first, double second) {
+        return new DoubleDoubleTuple(first, second);
+    }
+
+    /**
+     * Return a DoubleDoubleTuple holding the unboxed members of the given Tuple.
+     *
+     * @param tuple may not be null, nor may its first or second members
+     * @return a DoubleDoubleTuple equal to the tuple
+     * @throws NullPointerException if a member that must be unboxed is {@code null}
+     */
+    public static DoubleDoubleTuple of(Tuple<Double, Double> tuple) {
+        return of(tuple.getFirst(), tuple.getSecond());
+    }
+
+    public double getFirst() {
+        return first;
+    }
+
+    public double getSecond() {
+        return second;
+    }
+
+    /**
+     * Return a new DoubleDoubleTuple with its members in reversed order; the first element is second and the second is
+     * first.
+     *
+     * @return a new DoubleDoubleTuple instance
+     */
+    public DoubleDoubleTuple swapped() {
+        return DoubleDoubleTuple.of(second, first);
+    }
+
+    /**
+     * Return a new DoubleDoubleTuple with the given value for the first member. The second member will be this tuple's
+     * current value. This tuple will remain unchanged.
+     *
+     * @param value the new first member
+     * @return a new DoubleDoubleTuple
+     */
+    public DoubleDoubleTuple withFirst(double value) {
+        return new DoubleDoubleTuple(value, second);
+    }
+
+    /**
+     * Return a new DoubleDoubleTuple with the given value for the second member. The first member will be this tuple's
+     * current value. This tuple will remain unchanged.
+     *
+     * @param value the new second member
+     * @return a new DoubleDoubleTuple
+     */
+    public DoubleDoubleTuple withSecond(double value) {
+        return new DoubleDoubleTuple(first, value);
+    }
+
+    /**
+     * Return this tuple as a boxed Tuple. The returned Tuple is equal to any other Tuple of the same members.
+     *
+     * @return a new Tuple
+     */
+    public Tuple<Double, Double> toTuple() {
+        return Tuple.of(first, second);
+    }
+
+    /**
+     * Compare the tuple according to its first and second members in that order, using the natural ordering of
+     * {@code double}.
+     *
+     * @param other the tuple to compare this tuple with
+     * @return the comparison result according to the contract of {@link java.lang.Comparable}
+     */
+    @Override
+    public int compareTo(DoubleDoubleTuple other) {
+        if (other == null) {
+            return 1;
+        }
+        int firstComparison = Double.compare(first, other.first);
+        return firstComparison != 0 ? firstComparison : Double.compare(second, other.second);
+    }
+
+    /**
+     * Return true when the object is the same instance or a DoubleDoubleTuple with equal first and second members.
+     *
+     * @param o may be null
+     * @return true if the tuples are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DoubleDoubleTuple)) return false;
+        DoubleDoubleTuple tuple = (DoubleDoubleTuple) o;
+        return Double.doubleToLongBits(first) == Double.doubleToLongBits(tuple.first) &&
+                Double.doubleToLongBits(second) == Double.doubleToLongBits(tuple.second);
+    }
+
+    /**
+     * Return a hash code based on the hashes for the first and second member values. It equals the hash code of the
+     * corresponding boxed Tuple.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 + Double.hashCode(first)) + Double.hashCode(second);
+    }
+
+    /**
+     * Formatted as "({first}, {second})"
+     */
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ')';
+    }
+}
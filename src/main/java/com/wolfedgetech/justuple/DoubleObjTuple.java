@@ -0,0 +1,147 @@
+package com.wolfedgetech.justuple;
+
+import java.util.Objects;
+
+/**
+ * An ordered pair whose first member is a {@code double} and whose second member is a potentially {@code null}
+ * reference. Immutable and thread-safe.
+ * <p>
+ * This is the primitive specialization of {@code Tuple<Double, V>}. Its primitive member is stored unboxed, so creating
+ * an instance allocates a single object. Two instances are equal exactly when their boxed forms returned by
+ * {@link #toTuple()} are equal, and hash code, ordering and string form match the boxed form as well.
+ *
+ * @param <V> type of the second tuple member
+ * @see Tuple
+ */
+public final class DoubleObjTuple<V> implements Comparable<DoubleObjTuple<V>> {
+
+    private final double first;
+    private final V second;
+
+    private DoubleObjTuple(double first, V second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Return a DoubleObjTuple of the given values.
+     *
+     * @param first  the first member
+     * @param second may be null.
+     * @param <V>    the type of the second member
+     * @return a DoubleObjTuple of the two arguments.
+     */
+    public static <V> DoubleObjTuple<V> of(double first, V second) {
+        return new DoubleObjTuple<>(first, second);
+    }
+
+    /**
+     * Return a DoubleObjTuple holding the unboxed members of the given Tuple.
+     *
+     * @param tuple may not be null, nor may its first member
+     * @param <V>   the type of the second member
+     * @return a DoubleObjTuple equal to the tuple
+     * @throws NullPointerException if a member that must be unboxed is {@code null}
+     */
+    public static <V> DoubleObjTuple<V> of(Tuple<Double, V> tuple) {
+        return of(tuple.getFirst(), tuple.getSecond());
+    }
+
+    public double getFirst() {
+        return first;
+    }
+
+    public V getSecond() {
+        return second;
+    }
+
+    /**
+     * Return a new tuple with its members in reversed order; the first element is second and the second is first.
+     *
+     * @return a new ObjDoubleTuple instance
+     */
+    public ObjDoubleTuple<V> swapped() {
+        return ObjDoubleTuple.of(second, first);
+    }
+
+    /**
+     * Return a new DoubleObjTuple with the given value for the first member. The second member will be this tuple's
+     * current value. This tuple will remain unchanged.
+     *
+     * @param value the new first member
+     * @return a new DoubleObjTuple
+     */
+    public DoubleObjTuple<V> withFirst(double value) {
+        return new DoubleObjTuple<>(value, second);
+    }
+
+    /**
+     * Return a new DoubleObjTuple with the given value for the second member. The first member will be this tuple's
+     * current value. This tuple will remain unchanged.
+     *
+     * @param value may be null
+     * @return a new DoubleObjTuple
+     */
+    public DoubleObjTuple<V> withSecond(V value) {
+        return new DoubleObjTuple<>(first, value);
+    }
+
+    /**
+     * Return this tuple as a boxed Tuple. The returned Tuple is equal to any other Tuple of the same members.
+     *
+     * @return a new Tuple
+     */
+    public Tuple<Double, V> toTuple() {
+        return Tuple.of(first, second);
+    }
+
+    /**
+     * Compare the tuple according to its first and second members in that order. The reference member is compared
+     * like a Tuple member: {@code null} comes first and a non-{@code Comparable} value results in a
+     * {@code ClassCastException}.
+     *
+     * @param other the tuple to compare this tuple with
+     * @return the comparison result according to the contract of {@link java.lang.Comparable}
+     * @throws ClassCastException if the reference member does not implement Comparable
+     */
+    @Override
+    public int compareTo(DoubleObjTuple<V> other) {
+        if (other == null) {
+            return 1;
+        }
+        int firstComparison = Double.compare(first, other.first);
+        return firstComparison != 0 ? firstComparison : Tuple.compareNullsFirst(second, other.second);
+    }
+
+    /**
+     * Return true when the object is the same instance or a DoubleObjTuple with equal first and second members.
+     *
+     * @param o may be null
+     * @return true if the tuples are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DoubleObjTuple)) return false;
+        DoubleObjTuple<?> tuple = (DoubleObjTuple<?>) o;
+        return Double.doubleToLongBits(first) == Double.doubleToLongBits(tuple.first) &&
+                Objects.equals(second, tuple.second);
+    }
+
+    /**
+     * Return a hash code based on the hashes for the first and second member values. It equals the hash code of the
+     * corresponding boxed Tuple.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 + Double.hashCode(first)) + Objects.hashCode(second);
+    }
+
+    /**
+     * Formatted as "({first}, {second})"
+     */
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ')';
+    }
+}
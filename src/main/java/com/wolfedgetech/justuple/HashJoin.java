@@ -0,0 +1,152 @@
+package com.wolfedgetech.justuple;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Hash joins of two tuple Streams on their first members. The second members of one side, the build side, are
+ * grouped by first member into a hash table when a terminal operation begins. The other side, the probe side, is then
+ * streamed lazily and each of its tuples is joined with the build side tuples sharing its first member. As in
+ * {@code Tuples.mapAll}, a {@code null} first member is a key like any other.
+ */
+final class HashJoin {
+
+    enum Kind {
+        INNER, LEFT, FULL
+    }
+
+    private HashJoin() {
+        /* prevent instantiation */
+    }
+
+    /*
+     * Inner joins build on the smaller side when both sizes are known, which swaps the roles of the arguments. Outer
+     * joins always build on the right side, as unmatched left tuples must be emitted while probing.
+     */
+    static <K, A, B> Stream<Tuple<A, B>> join(Stream<Tuple<K, A>> left, Stream<Tuple<K, B>> right, Kind kind) {
+        boolean parallel = left.isParallel() || right.isParallel();
+        Spliterator<Tuple<K, A>> leftItems = left.spliterator();
+        Spliterator<Tuple<K, B>> rightItems = right.spliterator();
+        Stream<Tuple<A, B>> joined;
+        if (kind == Kind.INNER && isSmaller(leftItems, rightItems)) {
+            joined = probe(rightItems, new Table<>(leftItems), parallel, false, (b, a) -> Tuple.of(a, b));
+        } else {
+            Table<K, B> table = new Table<>(rightItems);
+            joined = probe(leftItems, table, parallel, kind != Kind.INNER, Tuple::of);
+            if (kind == Kind.FULL) {
+                joined = StreamSupport.stream(new FullJoinSpliterator<>(joined.spliterator(), table), parallel);
+            }
+        }
+        return joined.onClose(() -> {
+            try {
+                left.close();
+            } finally {
+                right.close();
+            }
+        });
+    }
+
+    private static boolean isSmaller(Spliterator<?> items, Spliterator<?> otherItems) {
+        long size = items.getExactSizeIfKnown();
+        long otherSize = otherItems.getExactSizeIfKnown();
+        return size >= 0 && otherSize >= 0 && size < otherSize;
+    }
+
+    /*
+     * The table is built by the Spliterator supplier, which the Stream calls once when a terminal operation begins,
+     * before any parallel probing.
+     */
+    private static <K, P, Q, R> Stream<R> probe(Spliterator<Tuple<K, P>> probeItems, Table<K, Q> table,
+                                                boolean parallel, boolean outer, BiFunction<P, Q, R> joiner) {
+        return StreamSupport.stream(() -> {
+            table.build();
+            return probeItems;
+        }, probeItems.characteristics(), parallel).flatMap(tuple -> table.match(tuple, outer, joiner));
+    }
+
+    /*
+     * The build side's second members grouped by first member, along with whether any probe tuple matched them.
+     */
+    private static final class Table<K, V> {
+
+        private final Spliterator<Tuple<K, V>> items;
+        private Map<K, Bucket<V>> buckets;
+
+        Table(Spliterator<Tuple<K, V>> items) {
+            this.items = items;
+        }
+
+        void build() {
+            long size = items.getExactSizeIfKnown();
+            buckets = new HashMap<>(size < 0 || size > Integer.MAX_VALUE / 2 ? 16 : (int) (size / 0.75f) + 1);
+            items.forEachRemaining(tuple -> buckets.computeIfAbsent(tuple.getFirst(), key -> new Bucket<>())
+                    .values.add(tuple.getSecond()));
+        }
+
+        <P, R> Stream<R> match(Tuple<K, P> tuple, boolean outer, BiFunction<P, V, R> joiner) {
+            P probeValue = tuple.getSecond();
+            Bucket<V> bucket = buckets.get(tuple.getFirst());
+            if (bucket == null) {
+                return outer ? Stream.of(joiner.apply(probeValue, null)) : Stream.empty();
+            }
+            bucket.matched = true;
+            if (bucket.values.size() == 1) {
+                return Stream.of(joiner.apply(probeValue, bucket.values.get(0)));
+            }
+            return bucket.values.stream().map(value -> joiner.apply(probeValue, value));
+        }
+
+        Iterator<V> unmatched() {
+            return buckets.values().stream()
+                    .filter(bucket -> !bucket.matched)
+                    .flatMap(bucket -> bucket.values.stream())
+                    .iterator();
+        }
+    }
+
+    private static final class Bucket<V> {
+        final List<V> values = new ArrayList<>(1);
+        boolean matched;
+    }
+
+    /*
+     * Emits the joined tuples and then the unmatched build side tuples, which are only known once probing is done.
+     * Probing therefore happens sequentially, through the joined Spliterator's tryAdvance.
+     */
+    private static final class FullJoinSpliterator<A, B> extends Spliterators.AbstractSpliterator<Tuple<A, B>> {
+
+        private final Spliterator<Tuple<A, B>> joined;
+        private final Table<?, B> table;
+        private Iterator<B> unmatched;
+
+        FullJoinSpliterator(Spliterator<Tuple<A, B>> joined, Table<?, B> table) {
+            super(Long.MAX_VALUE, joined.characteristics() & ORDERED);
+            this.joined = joined;
+            this.table = table;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Tuple<A, B>> action) {
+            if (unmatched == null) {
+                if (joined.tryAdvance(action)) {
+                    return true;
+                }
+                unmatched = table.unmatched();
+            }
+            if (unmatched.hasNext()) {
+                action.accept(Tuple.of(null, unmatched.next()));
+                return true;
+            }
+            return false;
+        }
+    }
+}
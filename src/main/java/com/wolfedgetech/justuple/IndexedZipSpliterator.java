@@ -0,0 +1,82 @@
+package com.wolfedgetech.justuple;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * A Spliterator pairing the items of two index-addressable sources, such as arrays or RandomAccess lists. It splits
+ * by halving its index range, so both halves are exactly sized and pair the same positions of both sources. Past the
+ * end of the smaller source, its items are {@code null}.
+ *
+ * @param <U> the type of the tuples' first members
+ * @param <V> the type of the tuples' second members
+ */
+class IndexedZipSpliterator<U, V> implements Spliterator<Tuple<U, V>> {
+
+    private final IntFunction<U> firstItems;
+    private final int firstSize;
+    private final IntFunction<V> secondItems;
+    private final int secondSize;
+    private int index;
+    private final int fence;
+
+    IndexedZipSpliterator(IntFunction<U> firstItems, int firstSize, IntFunction<V> secondItems, int secondSize) {
+        this(firstItems, firstSize, secondItems, secondSize, 0, Math.max(firstSize, secondSize));
+    }
+
+    private IndexedZipSpliterator(IntFunction<U> firstItems, int firstSize, IntFunction<V> secondItems,
+                                  int secondSize, int origin, int fence) {
+        this.firstItems = firstItems;
+        this.firstSize = firstSize;
+        this.secondItems = secondItems;
+        this.secondSize = secondSize;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    private Tuple<U, V> tupleAt(int i) {
+        return Tuple.of(
+                i < firstSize ? firstItems.apply(i) : null,
+                i < secondSize ? secondItems.apply(i) : null);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Tuple<U, V>> action) {
+        if (index >= fence) {
+            return false;
+        }
+        action.accept(tupleAt(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Tuple<U, V>> action) {
+        int i = index;
+        index = fence;
+        for (; i < fence; ++i) {
+            action.accept(tupleAt(i));
+        }
+    }
+
+    @Override
+    public Spliterator<Tuple<U, V>> trySplit() {
+        int origin = index;
+        int mid = (origin + fence) >>> 1;
+        if (origin >= mid) {
+            return null;
+        }
+        index = mid;
+        return new IndexedZipSpliterator<>(firstItems, firstSize, secondItems, secondSize, origin, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+}
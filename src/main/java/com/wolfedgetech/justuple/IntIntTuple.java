@@ -0,0 +1,143 @@
+package com.wolfedgetech.justuple;
+
+import java.io.Serializable;
+
+/**
+ * An ordered pair of {@code int} values. Immutable and thread-safe.
+ * <p>
+ * This is the primitive specialization of {@code Tuple<Integer, Integer>}. Its primitive members are stored unboxed, so
+ * creating an instance allocates a single object. Two instances are equal exactly when their boxed forms returned by
+ * {@link #toTuple()} are equal, and hash code, ordering and string form match the boxed form as well.
+ *
+ * @see Tuple
+ */
+public final class IntIntTuple implements Comparable<IntIntTuple>, Serializable {
+
+    private static final long serialVersionUID = 20261015;
+
+    private final int first;
+    private final int second;
+
+    private IntIntTuple(int first, int second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Return an IntIntTuple of the given values.
+     *
+     * @param first  the first member
+     * @param second the second member
+     * @return an IntIntTuple of the two arguments.
+     */
+    public static IntIntTuple of(int first, int second) {
+        return new IntIntTuple(first, second);
+    }
+
+    /**
+     * Return an IntIntTuple holding the unboxed members of the given Tuple.
+     *
+     * @param tuple may not be null, nor may its first or second members
+     * @return an IntIntTuple equal to the tuple
+     * @throws NullPointerException if a member that must be unboxed is {@code null}
+     */
+    public static IntIntTuple of(Tuple<Integer, Integer> tuple) {
+        return of(tuple.getFirst(), tuple.getSecond());
+    }
+
+    public int getFirst() {
+        return first;
+    }
+
+    public int getSecond() {
+        return second;
+    }
+
+    /**
+     * Return a new IntIntTuple with its members in reversed order; the first element is second and the second is first.
+     *
+     * @return a new IntIntTuple instance
+     */
+    public IntIntTuple swapped() {
+        return IntIntTuple.of(second, first);
+    }
+
+    /**
+     * Return a new IntIntTuple with the given value for the first member. The second member will be this tuple's
+     * current value. This tuple will remain unchanged.
+     *
+     * @param value the new first member
+     * @return a new IntIntTuple
+     */
+    public IntIntTuple withFirst(int value) {
+        return new IntIntTuple(value, second);
+    }
+
+    /**
+     * Return a new IntIntTuple with the given value for the second member. The first member will be this tuple's
+     * current value. This tuple will remain unchanged.
+     *
+     * @param value the new second member
+     * @return a new IntIntTuple
+     */
+    public IntIntTuple withSecond(int value) {
+        return new IntIntTuple(first, value);
+    }
+
+    /**
+     * Return this tuple as a boxed Tuple. The returned Tuple is equal to any other Tuple of the same members.
+     *
+     * @return a new Tuple
+     */
+    public Tuple<Integer, Integer> toTuple() {
+        return Tuple.of(first, second);
+    }
+
+    /**
+     * Compare the tuple according to its first and second members in that order, using the natural ordering of
+     * {@code int}.
+     *
+     * @param other the tuple to compare this tuple with
+     * @return the comparison result according to the contract of {@link java.lang.Comparable}
+     */
+    @Override
+    public int compareTo(IntIntTuple other) {
+        if (other == null) {
+            return 1;
+        }
+        int firstComparison = Integer.compare(first, other.first);
+        return firstComparison != 0 ? firstComparison : Integer.compare(second, other.second);
+    }
+
+    /**
+     * Return true when the object is the same instance or an IntIntTuple with equal first and second members.
+     *
+     * @param o may be null
+     * @return true if the tuples are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntIntTuple)) return false;
+        IntIntTuple tuple = (IntIntTuple) o;
+        return first == tuple.first &&
+                second == tuple.second;
+    }
+
+    /**
+     * Return a hash code based on the hashes for the first and second member values. It equals the hash code of the
+     * corresponding boxed Tuple.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 + Integer.hashCode(first)) + Integer.hashCode(second);
+    }
+
+    /**
+     * Formatted as "({first}, {second})"
+     */
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ')';
+    }
+}
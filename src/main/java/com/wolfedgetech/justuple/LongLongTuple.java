@@ -0,0 +1,144 @@
+package com.wolfedgetech.justuple;
+
+import java.io.Serializable;
+
+/**
+ * An ordered pair of {@code long} values. Immutable and thread-safe.
+ * <p>
+ * This is the primitive specialization of {@code Tuple<Long, Long>}. Its primitive members are stored unboxed, so
+ * creating an instance allocates a single object. Two instances are equal exactly when their boxed forms returned by
+ * {@link #toTuple()} are equal, and hash code, ordering and string form match the boxed form as well.
+ *
+ * @see Tuple
+ */
+public final class LongLongTuple implements Comparable<LongLongTuple>, Serializable {
+
+    private static final long serialVersionUID = 20261015;
+
+    private final long first;
+    private final long second;
+
+    private LongLongTuple(long first, long second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Return a LongLongTuple of the given values.
+     *
+     * @param first  the first member
+     * @param second the second member
+     * @return a LongLongTuple of the two arguments.
+     */
+    public static LongLongTuple of(long first, long second) {
+        return new LongLongTuple(first, second);
+    }
+
+    /**
+     * Return a LongLongTuple holding the unboxed members of the given Tuple.
+     *
+     * @param tuple may not be null, nor may its first or second members
+     * @return a LongLongTuple equal to the tuple
+     * @throws NullPointerException if a member that must be unboxed is {@code null}
+     */
+    public static LongLongTuple of(Tuple<Long, Long> tuple) {
+        return of(tuple.getFirst(), tuple.getSecond());
+    }
+
+    public long getFirst() {
+        return first;
+    }
+
+    public long getSecond() {
+        return second;
+    }
+
+    /**
+     * Return a new LongLongTuple with its members in reversed order; the first element is second and the second is
+     * first.
+     *
+     * @return a new LongLongTuple instance
+     */
+    public LongLongTuple swapped() {
+        return LongLongTuple.of(second, first);
+    }
+
+    /**
+     * Return a new LongLongTuple with the given value for the first member. The second member will be this tuple's
+     * current value. This tuple will remain unchanged.
+     *
+     * @param value the new first member
+     * @return a new LongLongTuple
+     */
+    public LongLongTuple withFirst(long value) {
+        return new LongLongTuple(value, second);
+    }
+
+    /**
+     * Return a new LongLongTuple with the given value for the second member. The first member will be this tuple's
+     * current value. This tuple will remain unchanged.
+     *
+     * @param value the new second member
+     * @return a new LongLongTuple
+     */
+    public LongLongTuple withSecond(long value) {
+        return new LongLongTuple(first, value);
+    }
+
+    /**
+     * Return this tuple as a boxed Tuple. The returned Tuple is equal to any other Tuple of the same members.
+     *
+     * @return a new Tuple
+     */
+    public Tuple<Long, Long> toTuple() {
+        return Tuple.of(first, second);
+    }
+
+    /**
+     * Compare the tuple according to its first and second members in that order, using the natural ordering of
+     * {@code long}.
+     *
+     * @param other the tuple to compare this tuple with
+     * @return the comparison result according to the contract of {@link java.lang.Comparable}
+     */
+    @Override
+    public int compareTo(LongLongTuple other) {
+        if (other == null) {
+            return 1;
+        }
+        int firstComparison = Long.compare(first, other.first);
+        return firstComparison != 0 ? firstComparison : Long.compare(second, other.second);
+    }
+
+    /**
+     * Return true when the object is the same instance or a LongLongTuple with equal first and second members.
+     *
+     * @param o may be null
+     * @return true if the tuples are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongLongTuple)) return false;
+        LongLongTuple tuple = (LongLongTuple) o;
+        return first == tuple.first &&
+                second == tuple.second;
+    }
+
+    /**
+     * Return a hash code based on the hashes for the first and second member values. It equals the hash code of the
+     * corresponding boxed Tuple.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 + Long.hashCode(first)) + Long.hashCode(second);
+    }
+
+    /**
+     * Formatted as "({first}, {second})"
+     */
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ')';
+    }
+}
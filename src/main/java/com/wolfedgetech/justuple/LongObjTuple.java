@@ -0,0 +1,147 @@
+package com.wolfedgetech.justuple;
+
+import java.util.Objects;
+
+/**
+ * An ordered pair whose first member is a {@code long} and whose second member is a potentially {@code null} reference.
+ * Immutable and thread-safe.
+ * <p>
+ * This is the primitive specialization of {@code Tuple<Long, V>}. Its primitive member is stored unboxed, so creating
+ * an instance allocates a single object. Two instances are equal exactly when their boxed forms returned by
+ * {@link #toTuple()} are equal, and hash code, ordering and string form match the boxed form as well.
+ *
+ * @param <V> type of the second tuple member
+ * @see Tuple
+ */
+public final class LongObjTuple<V> implements Comparable<LongObjTuple<V>> {
+
+    private final long first;
+    private final V second;
+
+    private LongObjTuple(long first, V second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Return a LongObjTuple of the given values.
+     *
+     * @param first  the first member
+     * @param second may be null.
+     * @param <V>    the type of the second member
+     * @return a LongObjTuple of the two arguments.
+     */
+    public static <V> LongObjTuple<V> of(long first, V second) {
+        return new LongObjTuple<>(first, second);
+    }
+
+    /**
+     * Return a LongObjTuple holding the unboxed members of the given Tuple.
+     *
+     * @param tuple may not be null, nor may its first member
+     * @param <V>   the type of the second member
+     * @return a LongObjTuple equal to the tuple
+     * @throws NullPointerException if a member that must be unboxed is {@code null}
+     */
+    public static <V> LongObjTuple<V> of(Tuple<Long, V> tuple) {
+        return of(tuple.getFirst(), tuple.getSecond());
+    }
+
+    public long getFirst() {
+        return first;
+    }
+
+    public V getSecond() {
+        return second;
+    }
+
+    /**
+     * Return a new tuple with its members in reversed order; the first element is second and the second is first.
+     *
+     * @return a new ObjLongTuple instance
+     */
+    public ObjLongTuple<V> swapped() {
+        return ObjLongTuple.of(second, first);
+    }
+
+    /**
+     * Return a new LongObjTuple with the given value for the first member. The second member will be this tuple's
+     * current value. This tuple will remain unchanged.
+     *
+     * @param value the new first member
+     * @return a new LongObjTuple
+     */
+    public LongObjTuple<V> withFirst(long value) {
+        return new LongObjTuple<>(value, second);
+    }
+
+    /**
+     * Return a new LongObjTuple with the given value for the second member. The first member will be this tuple's
+     * current value. This tuple will remain unchanged.
+     *
+     * @param value may be null
+     * @return a new LongObjTuple
+     */
+    public LongObjTuple<V> withSecond(V value) {
+        return new LongObjTuple<>(first, value);
+    }
+
+    /**
+     * Return this tuple as a boxed Tuple. The returned Tuple is equal to any other Tuple of the same members.
+     *
+     * @return a new Tuple
+     */
+    public Tuple<Long, V> toTuple() {
+        return Tuple.of(first, second);
+    }
+
+    /**
+     * Compare the tuple according to its first and second members in that order. The reference member is compared
+     * like a Tuple member: {@code null} comes first and a non-{@code Comparable} value results in a
+     * {@code ClassCastException}.
+     *
+     * @param other the tuple to compare this tuple with
+     * @return the comparison result according to the contract of {@link java.lang.Comparable}
+     * @throws ClassCastException if the reference member does not implement Comparable
+     */
+    @Override
+    public int compareTo(LongObjTuple<V> other) {
+        if (other == null) {
+            return 1;
+        }
+        int firstComparison = Long.compare(first, other.first);
+        return firstComparison != 0 ? firstComparison : Tuple.compareNullsFirst(second, other.second);
+    }
+
+    /**
+     * Return true when the object is the same instance or a LongObjTuple with equal first and second members.
+     *
+     * @param o may be null
+     * @return true if the tuples are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongObjTuple)) return false;
+        LongObjTuple<?> tuple = (LongObjTuple<?>) o;
+        return first == tuple.first &&
+                Objects.equals(second, tuple.second);
+    }
+
+    /**
+     * Return a hash code based on the hashes for the first and second member values. It equals the hash code of the
+     * corresponding boxed Tuple.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 + Long.hashCode(first)) + Objects.hashCode(second);
+    }
+
+    /**
+     * Formatted as "({first}, {second})"
+     */
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ')';
+    }
+}
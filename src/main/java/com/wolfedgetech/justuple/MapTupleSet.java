@@ -0,0 +1,111 @@
+package com.wolfedgetech.justuple;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * An unmodifiable Set view of a map's entries as tuples. Tuples are created on demand as the view is iterated, and
+ * membership is decided by a key lookup in the backing map, so the view costs nothing up front and reflects later
+ * changes to the map.
+ *
+ * @param <U> the key type and the type of the tuples' first members
+ * @param <V> the value type and the type of the tuples' second members
+ */
+class MapTupleSet<U, V> extends AbstractSet<Tuple<U, V>> {
+
+    private final Map<U, V> map;
+
+    MapTupleSet(Map<U, V> map) {
+        this.map = map;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    /*
+     * Only check for the key separately when the value is null, as maps without null values never need to.
+     */
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Tuple)) {
+            return false;
+        }
+        Tuple<?, ?> tuple = (Tuple<?, ?>) o;
+        V value = map.get(tuple.getFirst());
+        if (value != null) {
+            return value.equals(tuple.getSecond());
+        }
+        return tuple.getSecond() == null && map.containsKey(tuple.getFirst());
+    }
+
+    @Override
+    public Iterator<Tuple<U, V>> iterator() {
+        Iterator<Map.Entry<U, V>> entries = map.entrySet().iterator();
+        return new Iterator<Tuple<U, V>>() {
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public Tuple<U, V> next() {
+                return Tuple.of(entries.next());
+            }
+        };
+    }
+
+    /*
+     * Split as the map's own entry set splits, so parallel streams over the view divide the work the same way.
+     */
+    @Override
+    public Spliterator<Tuple<U, V>> spliterator() {
+        return new EntrySpliterator<>(map.entrySet().spliterator());
+    }
+
+    private static class EntrySpliterator<U, V> implements Spliterator<Tuple<U, V>> {
+        private final Spliterator<Map.Entry<U, V>> entries;
+
+        EntrySpliterator(Spliterator<Map.Entry<U, V>> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Tuple<U, V>> action) {
+            return entries.tryAdvance(entry -> action.accept(Tuple.of(entry)));
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Tuple<U, V>> action) {
+            entries.forEachRemaining(entry -> action.accept(Tuple.of(entry)));
+        }
+
+        @Override
+        public Spliterator<Tuple<U, V>> trySplit() {
+            Spliterator<Map.Entry<U, V>> prefix = entries.trySplit();
+            return prefix == null ? null : new EntrySpliterator<>(prefix);
+        }
+
+        @Override
+        public long estimateSize() {
+            return entries.estimateSize();
+        }
+
+        /*
+         * Entries are distinct, and so are the tuples made from them, but tuples are not sorted as entries may be.
+         */
+        @Override
+        public int characteristics() {
+            return (entries.characteristics() & ~SORTED) | DISTINCT | NONNULL;
+        }
+    }
+}
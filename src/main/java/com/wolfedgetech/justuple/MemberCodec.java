@@ -0,0 +1,82 @@
+package com.wolfedgetech.justuple;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Encodes and decodes non-null tuple members of type {@code T} to and from binary form. Codecs are plugged into a
+ * {@link TupleFile} or {@link TupleCodec} to persist tuples of arbitrary member types; {@code null} members are handled
+ * by the caller and never passed to a codec.
+ * <p>
+ * A codec that always writes the same number of bytes should report it from {@link #width()}, which lets tuples be
+ * stored as fixed-width records that are addressed without an index.
+ *
+ * @param <T> the member type
+ */
+public interface MemberCodec<T> {
+
+    /**
+     * Write the binary form of the value.
+     *
+     * @param value never null
+     * @param out   the destination
+     * @throws IOException if writing fails
+     */
+    void write(T value, DataOutput out) throws IOException;
+
+    /**
+     * Read a value written by {@link #write(Object, DataOutput)}.
+     *
+     * @param in the source, positioned at the start of the value
+     * @return the value
+     * @throws IOException if reading fails
+     */
+    T read(DataInput in) throws IOException;
+
+    /**
+     * Return the number of bytes written for every value, or a negative number if the size varies by value.
+     *
+     * @return the fixed width in bytes, or -1
+     */
+    default int width() {
+        return -1;
+    }
+
+    /**
+     * Return a fixed-width codec for {@code Integer} members.
+     *
+     * @return a codec writing four bytes per value
+     */
+    static MemberCodec<Integer> ints() {
+        return MemberCodecs.INTS;
+    }
+
+    /**
+     * Return a fixed-width codec for {@code Long} members.
+     *
+     * @return a codec writing eight bytes per value
+     */
+    static MemberCodec<Long> longs() {
+        return MemberCodecs.LONGS;
+    }
+
+    /**
+     * Return a fixed-width codec for {@code Double} members.
+     *
+     * @return a codec writing eight bytes per value
+     */
+    static MemberCodec<Double> doubles() {
+        return MemberCodecs.DOUBLES;
+    }
+
+    /**
+     * Return a variable-width codec for {@code String} members, encoded as a length followed by UTF-8 bytes. Unlike
+     * {@code DataOutput.writeUTF}, strings of any length are supported.
+     *
+     * @return a codec writing four bytes plus the UTF-8 encoding per value
+     */
+    static MemberCodec<String> strings() {
+        return MemberCodecs.STRINGS;
+    }
+}
@@ -0,0 +1,102 @@
+package com.wolfedgetech.justuple;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The built-in {@code MemberCodec} implementations.
+ */
+final class MemberCodecs {
+
+    /*
+     * Strings whose length prefix cannot be checked against the remaining input are read in chunks growing from this
+     * size, so that a corrupt prefix fails at the end of the input rather than by allocating its length up front.
+     */
+    private static final int STRING_CHUNK_BYTES = 8192;
+
+    static final MemberCodec<Integer> INTS = new MemberCodec<Integer>() {
+        @Override
+        public void write(Integer value, DataOutput out) throws IOException {
+            out.writeInt(value);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+    };
+
+    static final MemberCodec<Long> LONGS = new MemberCodec<Long>() {
+        @Override
+        public void write(Long value, DataOutput out) throws IOException {
+            out.writeLong(value);
+        }
+
+        @Override
+        public Long read(DataInput in) throws IOException {
+            return in.readLong();
+        }
+
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+    };
+
+    static final MemberCodec<Double> DOUBLES = new MemberCodec<Double>() {
+        @Override
+        public void write(Double value, DataOutput out) throws IOException {
+            out.writeDouble(value);
+        }
+
+        @Override
+        public Double read(DataInput in) throws IOException {
+            return in.readDouble();
+        }
+
+        @Override
+        public int width() {
+            return Double.BYTES;
+        }
+    };
+
+    static final MemberCodec<String> STRINGS = new MemberCodec<String>() {
+        @Override
+        public void write(String value, DataOutput out) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            int length = in.readInt();
+            if (length < 0) {
+                throw new StreamCorruptedException("Invalid string length " + length);
+            }
+            if (in instanceof ByteBufferDataInput) {
+                ((ByteBufferDataInput) in).require(length);
+            }
+            byte[] bytes = new byte[Math.min(length, STRING_CHUNK_BYTES)];
+            in.readFully(bytes);
+            for (int read = bytes.length; read < length; read = bytes.length) {
+                bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * read));
+                in.readFully(bytes, read, bytes.length - read);
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    private MemberCodecs() {
+        /* prevent instantiation */
+    }
+}
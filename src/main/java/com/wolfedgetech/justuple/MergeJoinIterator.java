@@ -0,0 +1,106 @@
+package com.wolfedgetech.justuple;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An Iterator joining two iterators of tuples sorted by first member, in the manner of a sort-merge inner join. Both
+ * iterators are advanced in lockstep; only the second members of the current run of right tuples sharing a first
+ * member are buffered, so that they can be joined with every left tuple of that first member.
+ *
+ * @param <K> the type of the joined first members
+ * @param <A> the type of the left tuples' second members
+ * @param <B> the type of the right tuples' second members
+ */
+class MergeJoinIterator<K, A, B> implements Iterator<Tuple<A, B>> {
+
+    private final Iterator<? extends Tuple<K, A>> leftItems;
+    private final Iterator<? extends Tuple<K, B>> rightItems;
+    private final Comparator<? super K> comparator;
+
+    private Tuple<K, A> left;
+    private Tuple<K, B> nextRight;
+    private boolean hasNextRight;
+    private boolean rightStarted;
+    private boolean hasRun;
+    private K runKey;
+    private final List<B> run = new ArrayList<>();
+    private int runIndex;
+
+    MergeJoinIterator(Iterator<? extends Tuple<K, A>> leftItems, Iterator<? extends Tuple<K, B>> rightItems,
+                      Comparator<? super K> comparator) {
+        this.leftItems = Objects.requireNonNull(leftItems, "Left items cannot be null.");
+        this.rightItems = Objects.requireNonNull(rightItems, "Right items cannot be null.");
+        this.comparator = Objects.requireNonNull(comparator, "Comparator cannot be null.");
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (left == null || runIndex >= run.size()) {
+            if (!leftItems.hasNext()) {
+                return false;
+            }
+            nextLeft(leftItems.next());
+        }
+        return true;
+    }
+
+    @Override
+    public Tuple<A, B> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return Tuple.of(left.getSecond(), run.get(runIndex++));
+    }
+
+    /*
+     * Position the run at the right tuples matching the new left tuple, reusing the current run if the key is equal.
+     */
+    private void nextLeft(Tuple<K, A> tuple) {
+        K key = tuple.getFirst();
+        if (left != null && comparator.compare(left.getFirst(), key) > 0) {
+            throw new IllegalStateException("Left items are not sorted: " + key + " follows " + left.getFirst());
+        }
+        left = tuple;
+        runIndex = 0;
+        if (hasRun && comparator.compare(runKey, key) == 0) {
+            return;
+        }
+        hasRun = false;
+        run.clear();
+        if (!rightStarted) {
+            rightStarted = true;
+            pullRight();
+        }
+        while (hasNextRight && comparator.compare(nextRight.getFirst(), key) < 0) {
+            pullRight();
+        }
+        if (hasNextRight && comparator.compare(nextRight.getFirst(), key) == 0) {
+            hasRun = true;
+            runKey = key;
+            do {
+                run.add(nextRight.getSecond());
+                pullRight();
+            } while (hasNextRight && comparator.compare(nextRight.getFirst(), key) == 0);
+        }
+    }
+
+    private void pullRight() {
+        if (!rightItems.hasNext()) {
+            hasNextRight = false;
+            nextRight = null;
+            return;
+        }
+        Tuple<K, B> tuple = rightItems.next();
+        if (hasNextRight && comparator.compare(nextRight.getFirst(), tuple.getFirst()) > 0) {
+            throw new IllegalStateException("Right items are not sorted: " + tuple.getFirst() + " follows "
+                    + nextRight.getFirst());
+        }
+        nextRight = tuple;
+        hasNextRight = true;
+    }
+}
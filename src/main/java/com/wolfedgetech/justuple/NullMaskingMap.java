@@ -0,0 +1,149 @@
+package com.wolfedgetech.justuple;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * A thread-safe Map backed by a {@code ConcurrentHashMap}, which does not support {@code null} keys or values, by
+ * storing a sentinel in their place. This lets many threads collect tuples into one shared table even when their
+ * members are {@code null}.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class NullMaskingMap<K, V> extends AbstractMap<K, V> {
+
+    private static final Object NULL = new Object();
+
+    private final ConcurrentHashMap<Object, Object> map = new ConcurrentHashMap<>();
+    private final Set<Entry<K, V>> entrySet = new EntrySet();
+
+    private static Object mask(Object o) {
+        return o == null ? NULL : o;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unmask(Object o) {
+        return o == NULL ? null : (T) o;
+    }
+
+    /*
+     * Atomically add the entry, or fail if the key is already present, as Tuples.map does.
+     */
+    void putUnique(K key, V value) {
+        if (map.putIfAbsent(mask(key), mask(value)) != null) {
+            throw new IllegalStateException("Duplicate key " + key);
+        }
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(mask(key));
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(mask(value));
+    }
+
+    @Override
+    public V get(Object key) {
+        return unmask(map.get(mask(key)));
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return unmask(map.put(mask(key), mask(value)));
+    }
+
+    @Override
+    public V remove(Object key) {
+        return unmask(map.remove(mask(key)));
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+    }
+
+    /**
+     * Atomically compute the value of the key, as {@code ConcurrentHashMap.compute} does. A computed {@code null}
+     * removes the entry, per the {@code Map.compute} contract.
+     */
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> function) {
+        return unmask(map.compute(mask(key), (maskedKey, value) -> function.apply(key, unmask(value))));
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public void clear() {
+            map.clear();
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            Iterator<Map.Entry<Object, Object>> entries = map.entrySet().iterator();
+            return new Iterator<Entry<K, V>>() {
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public Entry<K, V> next() {
+                    Map.Entry<Object, Object> entry = entries.next();
+                    return new UnmaskedEntry(unmask(entry.getKey()), unmask(entry.getValue()));
+                }
+
+                @Override
+                public void remove() {
+                    entries.remove();
+                }
+            };
+        }
+    }
+
+    /*
+     * Writes through to the map on setValue.
+     */
+    private final class UnmaskedEntry extends SimpleEntry<K, V> {
+        private static final long serialVersionUID = 20261015;
+
+        UnmaskedEntry(K key, V value) {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value) {
+            map.put(mask(getKey()), mask(value));
+            return super.setValue(value);
+        }
+    }
+}
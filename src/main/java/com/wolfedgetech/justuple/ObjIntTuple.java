@@ -0,0 +1,147 @@
+package com.wolfedgetech.justuple;
+
+import java.util.Objects;
+
+/**
+ * An ordered pair whose first member is a potentially {@code null} reference and whose second member is an {@code int}.
+ * Immutable and thread-safe.
+ * <p>
+ * This is the primitive specialization of {@code Tuple<U, Integer>}. Its primitive member is stored unboxed, so
+ * creating an instance allocates a single object. Two instances are equal exactly when their boxed forms returned by
+ * {@link #toTuple()} are equal, and hash code, ordering and string form match the boxed form as well.
+ *
+ * @param <U> type of the first tuple member
+ * @see Tuple
+ */
+public final class ObjIntTuple<U> implements Comparable<ObjIntTuple<U>> {
+
+    private final U first;
+    private final int second;
+
+    private ObjIntTuple(U first, int second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Return an ObjIntTuple of the given values.
+     *
+     * @param first  may be null.
+     * @param second the second member
+     * @param <U>    the type of the first member
+     * @return an ObjIntTuple of the two arguments.
+     */
+    public static <U> ObjIntTuple<U> of(U first, int second) {
+        return new ObjIntTuple<>(first, second);
+    }
+
+    /**
+     * Return an ObjIntTuple holding the unboxed members of the given Tuple.
+     *
+     * @param tuple may not be null, nor may its second member
+     * @param <U>   the type of the first member
+     * @return an ObjIntTuple equal to the tuple
+     * @throws NullPointerException if a member that must be unboxed is {@code null}
+     */
+    public static <U> ObjIntTuple<U> of(Tuple<U, Integer> tuple) {
+        return of(tuple.getFirst(), tuple.getSecond());
+    }
+
+    public U getFirst() {
+        return first;
+    }
+
+    public int getSecond() {
+        return second;
+    }
+
+    /**
+     * Return a new tuple with its members in reversed order; the first element is second and the second is first.
+     *
+     * @return a new IntObjTuple instance
+     */
+    public IntObjTuple<U> swapped() {
+        return IntObjTuple.of(second, first);
+    }
+
+    /**
+     * Return a new ObjIntTuple with the given value for the first member. The second member will be this tuple's
+     * current value. This tuple will remain unchanged.
+     *
+     * @param value may be null
+     * @return a new ObjIntTuple
+     */
+    public ObjIntTuple<U> withFirst(U value) {
+        return new ObjIntTuple<>(value, second);
+    }
+
+    /**
+     * Return a new ObjIntTuple with the given value for the second member. The first member will be this tuple's
+     * current value. This tuple will remain unchanged.
+     *
+     * @param value the new second member
+     * @return a new ObjIntTuple
+     */
+    public ObjIntTuple<U> withSecond(int value) {
+        return new ObjIntTuple<>(first, value);
+    }
+
+    /**
+     * Return this tuple as a boxed Tuple. The returned Tuple is equal to any other Tuple of the same members.
+     *
+     * @return a new Tuple
+     */
+    public Tuple<U, Integer> toTuple() {
+        return Tuple.of(first, second);
+    }
+
+    /**
+     * Compare the tuple according to its first and second members in that order. The reference member is compared
+     * like a Tuple member: {@code null} comes first and a non-{@code Comparable} value results in a
+     * {@code ClassCastException}.
+     *
+     * @param other the tuple to compare this tuple with
+     * @return the comparison result according to the contract of {@link java.lang.Comparable}
+     * @throws ClassCastException if the reference member does not implement Comparable
+     */
+    @Override
+    public int compareTo(ObjIntTuple<U> other) {
+        if (other == null) {
+            return 1;
+        }
+        int firstComparison = Tuple.compareNullsFirst(first, other.first);
+        return firstComparison != 0 ? firstComparison : Integer.compare(second, other.second);
+    }
+
+    /**
+     * Return true when the object is the same instance or an ObjIntTuple with equal first and second members.
+     *
+     * @param o may be null
+     * @return true if the tuples are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ObjIntTuple)) return false;
+        ObjIntTuple<?> tuple = (ObjIntTuple<?>) o;
+        return Objects.equals(first, tuple.first) &&
+                second == tuple.second;
+    }
+
+    /**
+     * Return a hash code based on the hashes for the first and second member values. It equals the hash code of the
+     * corresponding boxed Tuple.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 + Objects.hashCode(first)) + Integer.hashCode(second);
+    }
+
+    /**
+     * Formatted as "({first}, {second})"
+     */
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ')';
+    }
+}
@@ -0,0 +1,305 @@
+package com.wolfedgetech.justuple;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorts of pairs stored in two parallel primitive arrays, ordering them by first and then by second element as the
+ * primitive tuples' {@code compareTo} methods do.
+ * <p>
+ * Pairs are sorted by LSD radix sort, one pass per byte of the key from least to most significant, skipping the
+ * passes in which every key has the same byte. An {@code int} pair is packed into a single {@code long} key whose
+ * signed order is the pair order; {@code long} pairs are sorted by the eight bytes of the second elements and then by
+ * those of the first. Parallel sorts radix sort chunks of the arrays in a fork-join pool and merge them.
+ */
+final class PairSorts {
+
+    /*
+     * Below this many pairs, parallel sorts sort sequentially.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /*
+     * Below this many keys, the radix passes are not worth their fixed cost.
+     */
+    private static final int RADIX_THRESHOLD = 256;
+
+    private static final int MIN_CHUNK = 1 << 13;
+
+    private PairSorts() {
+        /* prevent instantiation */
+    }
+
+    static void sort(int[] firsts, int[] seconds) {
+        long[] keys = pack(firsts, seconds);
+        radixSort(keys, new long[keys.length], 0, keys.length);
+        unpack(keys, firsts, seconds);
+    }
+
+    static void parallelSort(int[] firsts, int[] seconds) {
+        if (firsts.length < PARALLEL_THRESHOLD) {
+            sort(firsts, seconds);
+            return;
+        }
+        long[] keys = pack(firsts, seconds);
+        ForkJoinPool.commonPool().invoke(new KeySortTask(keys, new long[keys.length], 0, keys.length,
+                chunkSize(keys.length)));
+        unpack(keys, firsts, seconds);
+    }
+
+    static void sort(long[] firsts, long[] seconds) {
+        radixSort(firsts, seconds, new long[firsts.length], new long[seconds.length], 0, firsts.length);
+    }
+
+    static void parallelSort(long[] firsts, long[] seconds) {
+        if (firsts.length < PARALLEL_THRESHOLD) {
+            sort(firsts, seconds);
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new PairSortTask(firsts, seconds, new long[firsts.length],
+                new long[seconds.length], 0, firsts.length, chunkSize(firsts.length)));
+    }
+
+    private static int chunkSize(int length) {
+        return Math.max(MIN_CHUNK, length / (4 * ForkJoinPool.getCommonPoolParallelism()));
+    }
+
+    /*
+     * The first element is the signed high half and the second the low half, with its sign bit flipped so that its
+     * unsigned order within the key is its signed order.
+     */
+    private static long[] pack(int[] firsts, int[] seconds) {
+        long[] keys = new long[firsts.length];
+        for (int i = 0; i < keys.length; ++i) {
+            keys[i] = (long) firsts[i] << 32 | (seconds[i] ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+        }
+        return keys;
+    }
+
+    private static void unpack(long[] keys, int[] firsts, int[] seconds) {
+        for (int i = 0; i < keys.length; ++i) {
+            long key = keys[i];
+            firsts[i] = (int) (key >>> 32);
+            seconds[i] = (int) key ^ Integer.MIN_VALUE;
+        }
+    }
+
+    /*
+     * The byte of the key for the radix pass, with the sign bit flipped in the most significant byte so that negative
+     * keys come first.
+     */
+    private static int digit(long key, int pass) {
+        int digit = (int) (key >>> (pass << 3)) & 0xFF;
+        return pass == 7 ? digit ^ 0x80 : digit;
+    }
+
+    private static void radixSort(long[] keys, long[] buffer, int from, int to) {
+        int length = to - from;
+        if (length < RADIX_THRESHOLD) {
+            Arrays.sort(keys, from, to);
+            return;
+        }
+        int[][] counts = new int[8][256];
+        for (int i = from; i < to; ++i) {
+            long key = keys[i];
+            for (int pass = 0; pass < 8; ++pass) {
+                ++counts[pass][digit(key, pass)];
+            }
+        }
+        long[] source = keys;
+        long[] target = buffer;
+        for (int pass = 0; pass < 8; ++pass) {
+            int[] offsets = counts[pass];
+            if (offsets[digit(source[from], pass)] == length) {
+                continue;
+            }
+            toOffsets(offsets, from);
+            for (int i = from; i < to; ++i) {
+                long key = source[i];
+                target[offsets[digit(key, pass)]++] = key;
+            }
+            long[] sorted = target;
+            target = source;
+            source = sorted;
+        }
+        if (source != keys) {
+            System.arraycopy(source, from, keys, from, length);
+        }
+    }
+
+    /*
+     * Passes 0 to 7 sort by the bytes of the second elements and passes 8 to 15 by those of the first.
+     */
+    private static void radixSort(long[] firsts, long[] seconds, long[] firstBuffer, long[] secondBuffer,
+                                  int from, int to) {
+        int length = to - from;
+        if (length < RADIX_THRESHOLD) {
+            insertionSort(firsts, seconds, from, to);
+            return;
+        }
+        int[][] counts = new int[16][256];
+        for (int i = from; i < to; ++i) {
+            long first = firsts[i];
+            long second = seconds[i];
+            for (int pass = 0; pass < 8; ++pass) {
+                ++counts[pass][digit(second, pass)];
+                ++counts[pass + 8][digit(first, pass)];
+            }
+        }
+        long[] sourceFirsts = firsts;
+        long[] sourceSeconds = seconds;
+        long[] targetFirsts = firstBuffer;
+        long[] targetSeconds = secondBuffer;
+        for (int pass = 0; pass < 16; ++pass) {
+            int[] offsets = counts[pass];
+            long[] keys = pass < 8 ? sourceSeconds : sourceFirsts;
+            int bytePass = pass & 7;
+            if (offsets[digit(keys[from], bytePass)] == length) {
+                continue;
+            }
+            toOffsets(offsets, from);
+            for (int i = from; i < to; ++i) {
+                int target = offsets[digit(keys[i], bytePass)]++;
+                targetFirsts[target] = sourceFirsts[i];
+                targetSeconds[target] = sourceSeconds[i];
+            }
+            long[] sortedFirsts = targetFirsts;
+            long[] sortedSeconds = targetSeconds;
+            targetFirsts = sourceFirsts;
+            targetSeconds = sourceSeconds;
+            sourceFirsts = sortedFirsts;
+            sourceSeconds = sortedSeconds;
+        }
+        if (sourceFirsts != firsts) {
+            System.arraycopy(sourceFirsts, from, firsts, from, length);
+            System.arraycopy(sourceSeconds, from, seconds, from, length);
+        }
+    }
+
+    /*
+     * Turn the counts of each digit into the index of its first key.
+     */
+    private static void toOffsets(int[] counts, int from) {
+        int offset = from;
+        for (int digit = 0; digit < counts.length; ++digit) {
+            int count = counts[digit];
+            counts[digit] = offset;
+            offset += count;
+        }
+    }
+
+    private static void insertionSort(long[] firsts, long[] seconds, int from, int to) {
+        for (int i = from + 1; i < to; ++i) {
+            long first = firsts[i];
+            long second = seconds[i];
+            int j = i - 1;
+            while (j >= from && compare(firsts[j], seconds[j], first, second) > 0) {
+                firsts[j + 1] = firsts[j];
+                seconds[j + 1] = seconds[j];
+                --j;
+            }
+            firsts[j + 1] = first;
+            seconds[j + 1] = second;
+        }
+    }
+
+    private static int compare(long first, long second, long otherFirst, long otherSecond) {
+        int firstComparison = Long.compare(first, otherFirst);
+        return firstComparison != 0 ? firstComparison : Long.compare(second, otherSecond);
+    }
+
+    /*
+     * Radix sorts chunks of packed keys, then merges the sorted halves of each range through the buffer.
+     */
+    private static final class KeySortTask extends RecursiveAction {
+        private static final long serialVersionUID = 20261015;
+
+        private final long[] keys;
+        private final long[] buffer;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        KeySortTask(long[] keys, long[] buffer, int from, int to, int chunkSize) {
+            this.keys = keys;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                radixSort(keys, buffer, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new KeySortTask(keys, buffer, from, middle, chunkSize),
+                    new KeySortTask(keys, buffer, middle, to, chunkSize));
+            int left = from;
+            int right = middle;
+            int target = from;
+            while (left < middle && right < to) {
+                buffer[target++] = keys[right] < keys[left] ? keys[right++] : keys[left++];
+            }
+            System.arraycopy(keys, left, buffer, target, middle - left);
+            System.arraycopy(keys, right, buffer, target + middle - left, to - right);
+            System.arraycopy(buffer, from, keys, from, to - from);
+        }
+    }
+
+    /*
+     * Radix sorts chunks of long pairs, then merges the sorted halves of each range through the buffers.
+     */
+    private static final class PairSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 20261015;
+
+        private final long[] firsts;
+        private final long[] seconds;
+        private final long[] firstBuffer;
+        private final long[] secondBuffer;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        PairSortTask(long[] firsts, long[] seconds, long[] firstBuffer, long[] secondBuffer, int from, int to,
+                     int chunkSize) {
+            this.firsts = firsts;
+            this.seconds = seconds;
+            this.firstBuffer = firstBuffer;
+            this.secondBuffer = secondBuffer;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                radixSort(firsts, seconds, firstBuffer, secondBuffer, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new PairSortTask(firsts, seconds, firstBuffer, secondBuffer, from, middle, chunkSize),
+                    new PairSortTask(firsts, seconds, firstBuffer, secondBuffer, middle, to, chunkSize));
+            int left = from;
+            int right = middle;
+            int target = from;
+            while (left < middle && right < to) {
+                int source = compare(firsts[right], seconds[right], firsts[left], seconds[left]) < 0
+                        ? right++ : left++;
+                firstBuffer[target] = firsts[source];
+                secondBuffer[target++] = seconds[source];
+            }
+            int leftRemaining = middle - left;
+            System.arraycopy(firsts, left, firstBuffer, target, leftRemaining);
+            System.arraycopy(seconds, left, secondBuffer, target, leftRemaining);
+            System.arraycopy(firsts, right, firstBuffer, target + leftRemaining, to - right);
+            System.arraycopy(seconds, right, secondBuffer, target + leftRemaining, to - right);
+            System.arraycopy(firstBuffer, from, firsts, from, to - from);
+            System.arraycopy(secondBuffer, from, seconds, from, to - from);
+        }
+    }
+}
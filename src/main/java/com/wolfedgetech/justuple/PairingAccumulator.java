@@ -0,0 +1,95 @@
+package com.wolfedgetech.justuple;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The mutable accumulation of {@code Tuples.collector()}. Items are buffered as they arrive and only paired into
+ * tuples by {@link #toTuples(List)}.
+ * <p>
+ * Pairing cannot happen eagerly in a parallel stream: whether an item starts or ends a pair depends on the parity of
+ * the number of items in all preceding segments, which is unknown while a segment is accumulated. Instead, each
+ * segment keeps its items in a linked list of chunks, two segments are combined in constant time by linking their
+ * chunks, and the final pairing is a single linear pass. Not thread safe.
+ *
+ * @param <S> the type of the accumulated items
+ */
+class PairingAccumulator<S> {
+
+    private static final int FIRST_CHUNK_SIZE = 16;
+    private static final int MAX_CHUNK_SIZE = 8192;
+
+    private Chunk head;
+    private Chunk tail;
+    private long size;
+
+    void add(S item) {
+        if (tail == null) {
+            head = tail = new Chunk(FIRST_CHUNK_SIZE);
+        } else if (tail.isFull()) {
+            Chunk chunk = new Chunk(Math.min(tail.items.length * 2, MAX_CHUNK_SIZE));
+            tail.next = chunk;
+            tail = chunk;
+        }
+        tail.items[tail.count++] = item;
+        ++size;
+    }
+
+    /*
+     * Append the other accumulator's items after this one's. The other accumulator must not be used afterwards.
+     */
+    PairingAccumulator<S> combine(PairingAccumulator<S> other) {
+        if (other.head == null) {
+            return this;
+        } else if (head == null) {
+            return other;
+        }
+        tail.next = other.head;
+        tail = other.tail;
+        size += other.size;
+        return this;
+    }
+
+    /*
+     * Pair adjacent items into tuples and add them to the given list. An odd number of items results in a final
+     * partial tuple.
+     */
+    @SuppressWarnings("unchecked")
+    List<Tuple<S, S>> toTuples(List<Tuple<S, S>> tuples) {
+        if (tuples instanceof ArrayList) {
+            ((ArrayList<Tuple<S, S>>) tuples).ensureCapacity((int) Math.min(Integer.MAX_VALUE, (size + 1) / 2));
+        }
+        S pending = null;
+        boolean isPending = false;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; ++i) {
+                S item = (S) chunk.items[i];
+                if (isPending) {
+                    tuples.add(Tuple.of(pending, item));
+                    pending = null;
+                } else {
+                    pending = item;
+                }
+                isPending = !isPending;
+            }
+        }
+        if (isPending) {
+            tuples.add(Tuple.partial(pending));
+        }
+        return tuples;
+    }
+
+    private static class Chunk {
+        private final Object[] items;
+        private int count;
+        private Chunk next;
+
+        Chunk(int capacity) {
+            this.items = new Object[capacity];
+        }
+
+        boolean isFull() {
+            return count == items.length;
+        }
+    }
+}
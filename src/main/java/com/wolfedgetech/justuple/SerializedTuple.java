@@ -0,0 +1,99 @@
+package com.wolfedgetech.justuple;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+
+/**
+ * The serialized form of serializable Tuples, written in their place by {@code writeReplace} and resolved back to a
+ * Tuple when read. The Tuple's type tag from {@link TupleCodec} is followed by each non-null member, prefixed by a
+ * member tag. Integer, Long, Double and String members are written directly with their {@link MemberCodec}; any other
+ * member falls back to {@code writeObject}. Unlike default serialization, no descriptor of the Tuple subclass and its
+ * fields is written.
+ */
+final class SerializedTuple implements Externalizable {
+    private static final long serialVersionUID = 20261015;
+
+    private static final int OBJECT = 0;
+    private static final int INTEGER = 1;
+    private static final int LONG = 2;
+    private static final int DOUBLE = 3;
+    private static final int STRING = 4;
+
+    private Tuple<?, ?> tuple;
+
+    /**
+     * Required by {@code Externalizable} for deserialization.
+     */
+    public SerializedTuple() {
+    }
+
+    SerializedTuple(Tuple<?, ?> tuple) {
+        this.tuple = tuple;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeByte(TupleCodec.tagOf(tuple));
+        writeMember(tuple.getFirst(), out);
+        writeMember(tuple.getSecond(), out);
+    }
+
+    private static void writeMember(Object member, ObjectOutput out) throws IOException {
+        if (member == null) {
+            return;
+        }
+        Class<?> type = member.getClass();
+        if (type == Integer.class) {
+            out.writeByte(INTEGER);
+            MemberCodecs.INTS.write((Integer) member, out);
+        } else if (type == Long.class) {
+            out.writeByte(LONG);
+            MemberCodecs.LONGS.write((Long) member, out);
+        } else if (type == Double.class) {
+            out.writeByte(DOUBLE);
+            MemberCodecs.DOUBLES.write((Double) member, out);
+        } else if (type == String.class) {
+            out.writeByte(STRING);
+            MemberCodecs.STRINGS.write((String) member, out);
+        } else {
+            out.writeByte(OBJECT);
+            out.writeObject(member);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        int tag = in.readUnsignedByte();
+        if ((tag & ~(TupleCodec.FIRST_NULL | TupleCodec.SECOND_NULL | TupleCodec.PARTIAL)) != 0) {
+            throw new StreamCorruptedException("Invalid tuple type tag " + tag);
+        }
+        Object first = (tag & TupleCodec.FIRST_NULL) != 0 ? null : readMember(in);
+        Object second = (tag & TupleCodec.SECOND_NULL) != 0 ? null : readMember(in);
+        tuple = (tag & TupleCodec.PARTIAL) != 0 ? Tuple.partial(first) : Tuple.of(first, second);
+    }
+
+    private static Object readMember(ObjectInput in) throws IOException, ClassNotFoundException {
+        int memberTag = in.readUnsignedByte();
+        switch (memberTag) {
+            case INTEGER:
+                return MemberCodecs.INTS.read(in);
+            case LONG:
+                return MemberCodecs.LONGS.read(in);
+            case DOUBLE:
+                return MemberCodecs.DOUBLES.read(in);
+            case STRING:
+                return MemberCodecs.STRINGS.read(in);
+            case OBJECT:
+                return in.readObject();
+            default:
+                throw new StreamCorruptedException("Invalid tuple member tag " + memberTag);
+        }
+    }
+
+    private Object readResolve() {
+        return tuple;
+    }
+}
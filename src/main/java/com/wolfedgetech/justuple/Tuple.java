@@ -1,5 +1,7 @@
 package com.wolfedgetech.justuple;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.List;
@@ -8,6 +10,12 @@ import java.util.Objects;
 
 /**
  * An ordered pair of potentially {@code null} references, not necessarily of the same type. Immutable and thread-safe.
+ * <p>
+ * By default, a Tuple is {@code Serializable} exactly when its members are, so the factory methods return one of two
+ * concrete classes. Setting the system property {@value #MONOMORPHIC_PROPERTY} to {@code true} at startup makes them
+ * always return the {@code Serializable} class instead, which keeps call sites that construct Tuples in hot loops
+ * monomorphic. In that mode, serializing a Tuple with a member that is not {@code Serializable} fails with a
+ * {@code java.io.NotSerializableException}.
  *
  * @param <U> type of the first tuple member
  * @param <V> type of the second tuple member
@@ -15,12 +23,48 @@ import java.util.Objects;
  */
 public class Tuple<U, V> implements Comparable<Tuple<U, V>> {
 
+    /**
+     * Name of the system property that, when {@code true}, makes every Tuple factory method return the same concrete
+     * {@code Serializable} class regardless of the members' types.
+     */
+    public static final String MONOMORPHIC_PROPERTY = "com.wolfedgetech.justuple.monomorphic";
+
+    /*
+     * Read once so that the JIT can fold the branch in the factory methods away.
+     */
+    private static final boolean MONOMORPHIC = Boolean.getBoolean(MONOMORPHIC_PROPERTY);
+
+    /*
+     * Whether each member class is Serializable, computed once per class. An instanceof check against an interface
+     * walks the class's secondary supertypes and contends on a single-entry cache when member types vary, whereas
+     * this lookup costs the same for every class.
+     */
+    private static final ClassValue<Boolean> SERIALIZABLE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return Serializable.class.isAssignableFrom(type);
+        }
+    };
+
+    /*
+     * Bit of flags set for partial tuples, which the partial factory method creates with only one member.
+     */
+    private static final int PARTIAL = 1;
+
     private final U first;
     private final V second;
+    private final byte flags;
+
+    /*
+     * Lazily computed hash code, zero until hashCode is first called. Racy writes are benign because every thread
+     * computes the same value from the immutable members, as in java.lang.String.
+     */
+    private int hash;
 
-    private Tuple(U first, V second) {
+    private Tuple(U first, V second, int flags) {
         this.first = first;
         this.second = second;
+        this.flags = (byte) flags;
     }
 
     /**
@@ -34,24 +78,41 @@ public class Tuple<U, V> implements Comparable<Tuple<U, V>> {
      * @return a Tuple of the two arguments.
      */
     public static <U, V> Tuple<U, V> of(U first, V second) {
-        if (areSerializable(first, second)) {
-            return new SerializableTuple<>(first, second);
+        if (MONOMORPHIC || areSerializable(first, second)) {
+            return new SerializableTuple<>(first, second, 0);
+        }
+        return new Tuple<>(first, second, 0);
+    }
+
+    /*
+     * Factories for callers that have already established whether both members are null or Serializable, such as the
+     * bulk factories of Tuples, which decide once per batch rather than once per Tuple. Both honor the monomorphic
+     * mode.
+     */
+    static <U, V> Tuple<U, V> ofSerializable(U first, V second) {
+        return new SerializableTuple<>(first, second, 0);
+    }
+
+    static <U, V> Tuple<U, V> ofNonSerializable(U first, V second) {
+        if (MONOMORPHIC) {
+            return new SerializableTuple<>(first, second, 0);
         }
-        return new Tuple<>(first, second);
+        return new Tuple<>(first, second, 0);
     }
 
     /**
-     * Creates a partial Tuple where only one member is populated.
+     * Creates a partial Tuple where only one member is populated. Swapping a partial tuple results in a new,
+     * non-partial tuple whose first member is always null.
      *
      * @param value the only value contained within the tuple.
      * @param <S>   the type of the value
      * @return a partial tuple
      */
     static <S> Tuple<S, S> partial(S value) {
-        if (isSerializable(value)) {
-            return new PartialSerializableTuple<>(value);
+        if (MONOMORPHIC || isSerializable(value)) {
+            return new SerializableTuple<>(value, null, PARTIAL);
         }
-        return new PartialTuple<>(value);
+        return new Tuple<>(value, null, PARTIAL);
     }
 
     /**
@@ -93,7 +154,14 @@ public class Tuple<U, V> implements Comparable<Tuple<U, V>> {
     }
 
     private static boolean isSerializable(Object o) {
-        return o == null || o instanceof Serializable;
+        return o == null || SERIALIZABLE.get(o.getClass());
+    }
+
+    /*
+     * Return true if every instance of the type is Serializable; a null type stands for a null member.
+     */
+    static boolean isSerializable(Class<?> type) {
+        return type == null || SERIALIZABLE.get(type);
     }
 
     public U getFirst() {
@@ -109,7 +177,7 @@ public class Tuple<U, V> implements Comparable<Tuple<U, V>> {
      * are semantically distinct from tuples constructed with two values, even if one or both of those values are null.
      */
     boolean isPartial() {
-        return false;
+        return (flags & PARTIAL) != 0;
     }
 
     /**
@@ -129,7 +197,7 @@ public class Tuple<U, V> implements Comparable<Tuple<U, V>> {
         return firstComparison != 0 ? firstComparison : compareNullsFirst(second, other.second);
     }
 
-    private static <T> int compareNullsFirst(T thisValue, T otherValue) {
+    static <T> int compareNullsFirst(T thisValue, T otherValue) {
         if (thisValue == null) {
             return otherValue == null ? 0 : -1;
         } else if (otherValue == null) {
@@ -219,7 +287,19 @@ public class Tuple<U, V> implements Comparable<Tuple<U, V>> {
     }
 
     /**
-     * Return true when the object is the same instance or the first and second values within the tuple equal.
+     * Return the canonical Tuple equal to this one from the shared {@link TupleInterner} pool. Interned Tuples can be
+     * compared by identity, and duplicates retained only through their interned instance can be garbage collected.
+     * A partial Tuple is returned as is.
+     *
+     * @return the canonical Tuple, which may be this Tuple
+     */
+    public Tuple<U, V> intern() {
+        return TupleInterner.shared().intern(this);
+    }
+
+    /**
+     * Return true when the object is the same instance or the first and second values within the tuple equal. Tuples
+     * that have both already been hashed are rejected without comparing members if their hash codes differ.
      *
      * @param o may be null
      * @return true if the tuples are equal
@@ -229,16 +309,24 @@ public class Tuple<U, V> implements Comparable<Tuple<U, V>> {
         if (this == o) return true;
         if (!(o instanceof Tuple)) return false;
         Tuple<?, ?> tuple = (Tuple<?, ?>) o;
+        if (hash != 0 && tuple.hash != 0 && hash != tuple.hash) return false;
         return Objects.equals(first, tuple.first) &&
                 Objects.equals(second, tuple.second);
     }
 
     /**
-     * Return a hash code based on the hashes for the first and second member values.
+     * Return a hash code based on the hashes for the first and second member values. The result is identical to
+     * {@code Objects.hash(first, second)} but is computed only once, so members should not be mutated in a way that
+     * changes their hash codes once the tuple has been hashed.
      */
     @Override
     public int hashCode() {
-        return Objects.hash(first, second);
+        int h = hash;
+        if (h == 0) {
+            h = 31 * (31 + Objects.hashCode(first)) + Objects.hashCode(second);
+            hash = h;
+        }
+        return h;
     }
 
     /**
@@ -251,43 +339,24 @@ public class Tuple<U, V> implements Comparable<Tuple<U, V>> {
 
     /*
      * A serializable version of Tuple in case the Tuple's ability to be Serialized happens to be important to
-     * someone somewhere for some reason.
+     * someone somewhere for some reason. Instances are written and read as a compact SerializedTuple. Whether a Tuple
+     * is Serializable has to be expressed by its class, so this is the only subclass; everything else about a Tuple,
+     * including whether it is partial, is held in its fields.
      */
-    private static class SerializableTuple<U, V> extends Tuple<U, V> implements Serializable {
+    private static final class SerializableTuple<U, V> extends Tuple<U, V> implements Serializable {
         private static final long serialVersionUID = 20191210;
 
-        SerializableTuple(U first, V second) {
-            super(first, second);
-        }
-    }
-
-    /*
-     * A partial tuple is constructed with only one potentially null member.
-     * Note: this class does not override the swapped method, which means that swapping a partial tuple results in
-     * a new, non-partial tuple with first member always being null.
-     */
-    private static class PartialTuple<S> extends Tuple<S, S> {
-        PartialTuple(S only) {
-            super(only, null);
+        SerializableTuple(U first, V second, int flags) {
+            super(first, second, flags);
         }
 
-        /**
-         * Always returns true.
-         *
-         * @return true
-         */
-        @Override
-        boolean isPartial() {
-            return true;
+        private Object writeReplace() {
+            return new SerializedTuple(this);
         }
-    }
-
-    private static class PartialSerializableTuple<S> extends PartialTuple<S> implements Serializable {
-        private static final long serialVersionUID = 20191230;
 
-        PartialSerializableTuple(S only) {
-            super(only);
+        private void readObject(ObjectInputStream in) throws InvalidObjectException {
+            throw new InvalidObjectException("Serialized through SerializedTuple");
         }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,324 @@
+package com.wolfedgetech.justuple;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * A growable sequence of {@code (long, long)} pairs stored off-heap. Pairs are packed into fixed-size pages of direct
+ * {@code ByteBuffer} memory, so holding hundreds of millions of them adds only a handful of objects to the heap and
+ * nothing for the garbage collector to trace.
+ * <p>
+ * Pairs are read by index, by an allocation-free {@link Cursor}, or as {@code LongLongTuple} and {@code Tuple}
+ * instances created on demand. Pairs can be appended but not removed or replaced. Direct memory is released once the
+ * buffer, or a page dropped by {@link #clear()}, is garbage collected. Not thread safe.
+ */
+public final class TupleBuffer implements Iterable<LongLongTuple> {
+
+    private static final int PAIR_BYTES = 2 * Long.BYTES;
+    private static final int PAGE_SHIFT = 16;
+    private static final int PAIRS_PER_PAGE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAIRS_PER_PAGE - 1;
+    private static final int PAGE_BYTES = PAIRS_PER_PAGE * PAIR_BYTES;
+
+    private ByteBuffer[] pages = new ByteBuffer[0];
+    private long size;
+
+    /**
+     * Return a buffer holding the members of the given tuples in iteration order.
+     *
+     * @param tuples may not be null, nor may any tuple or tuple member
+     * @return a new buffer
+     * @throws NullPointerException if a tuple or tuple member is {@code null}
+     */
+    public static TupleBuffer of(Iterable<? extends Tuple<Long, Long>> tuples) {
+        TupleBuffer buffer = new TupleBuffer();
+        for (Tuple<Long, Long> tuple : tuples) {
+            buffer.append(tuple);
+        }
+        return buffer;
+    }
+
+    /**
+     * Return a buffer pairing the items of the two arrays by index. If there is a difference in length between the
+     * two arguments, then the excess items are paired with {@code 0}, as with {@code Tuples.zip(long[], long[])}.
+     *
+     * @param firstItems  may not be null but can be empty
+     * @param secondItems may not be null but can be empty
+     * @return a new buffer
+     */
+    public static TupleBuffer of(long[] firstItems, long[] secondItems) {
+        TupleBuffer buffer = new TupleBuffer();
+        int size = Math.max(firstItems.length, secondItems.length);
+        for (int i = 0; i < size; ++i) {
+            buffer.append(
+                    i < firstItems.length ? firstItems[i] : 0L,
+                    i < secondItems.length ? secondItems[i] : 0L);
+        }
+        return buffer;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Append a pair.
+     *
+     * @param first  the first member
+     * @param second the second member
+     */
+    public void append(long first, long second) {
+        int page = (int) (size >>> PAGE_SHIFT);
+        if (page == pages.length) {
+            addPage();
+        }
+        int offset = ((int) size & PAGE_MASK) * PAIR_BYTES;
+        pages[page].putLong(offset, first).putLong(offset + Long.BYTES, second);
+        ++size;
+    }
+
+    /**
+     * Append the members of the given tuple.
+     *
+     * @param tuple may not be null
+     */
+    public void append(LongLongTuple tuple) {
+        append(tuple.getFirst(), tuple.getSecond());
+    }
+
+    /**
+     * Append the members of the given tuple.
+     *
+     * @param tuple may not be null, nor may its members
+     * @throws NullPointerException if the tuple or a tuple member is {@code null}
+     */
+    public void append(Tuple<Long, Long> tuple) {
+        append(tuple.getFirst(), tuple.getSecond());
+    }
+
+    private void addPage() {
+        pages = Arrays.copyOf(pages, pages.length + 1);
+        pages[pages.length - 1] = ByteBuffer.allocateDirect(PAGE_BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Return the first member of the pair at the given index.
+     *
+     * @param index zero or greater and less than the size
+     * @return the first member
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getFirst(long index) {
+        checkIndex(index);
+        return pages[(int) (index >>> PAGE_SHIFT)].getLong(((int) index & PAGE_MASK) * PAIR_BYTES);
+    }
+
+    /**
+     * Return the second member of the pair at the given index.
+     *
+     * @param index zero or greater and less than the size
+     * @return the second member
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getSecond(long index) {
+        checkIndex(index);
+        return pages[(int) (index >>> PAGE_SHIFT)].getLong(((int) index & PAGE_MASK) * PAIR_BYTES + Long.BYTES);
+    }
+
+    /**
+     * Return a new tuple of the pair at the given index.
+     *
+     * @param index zero or greater and less than the size
+     * @return a new LongLongTuple
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public LongLongTuple get(long index) {
+        return LongLongTuple.of(getFirst(index), getSecond(index));
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index + " is outside range of 0 to " + size + " exclusive.");
+        }
+    }
+
+    /**
+     * Remove all pairs and release the pages, leaving the direct memory to be reclaimed by the garbage collector.
+     */
+    public void clear() {
+        pages = new ByteBuffer[0];
+        size = 0;
+    }
+
+    /**
+     * Return a cursor positioned before the first pair.
+     *
+     * @return a new cursor
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    @Override
+    public Iterator<LongLongTuple> iterator() {
+        return new Iterator<LongLongTuple>() {
+            private final Cursor cursor = cursor();
+            private boolean advanced;
+
+            @Override
+            public boolean hasNext() {
+                if (!advanced) {
+                    advanced = cursor.advance();
+                }
+                return advanced;
+            }
+
+            @Override
+            public LongLongTuple next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                advanced = false;
+                return cursor.toTuple();
+            }
+        };
+    }
+
+    /**
+     * Return a sequential Stream of the pairs. Its Spliterator is SIZED and splits by index, making it suitable for
+     * parallel processing. The buffer must not be appended to while the Stream is consumed.
+     *
+     * @return a Stream of new LongLongTuple instances
+     */
+    public Stream<LongLongTuple> stream() {
+        return LongStream.range(0, size).mapToObj(this::get);
+    }
+
+    /**
+     * Return the pairs as a List of boxed tuples, e.g. for use with the {@code Tuples} factory methods.
+     *
+     * @return a new, modifiable List
+     * @throws IllegalStateException if the buffer holds more pairs than a List can
+     */
+    public List<Tuple<Long, Long>> toTuples() {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException(size + " pairs exceed the maximum size of a List.");
+        }
+        List<Tuple<Long, Long>> tuples = new ArrayList<>((int) size);
+        for (Cursor cursor = cursor(); cursor.advance(); ) {
+            tuples.add(Tuple.of(cursor.getFirst(), cursor.getSecond()));
+        }
+        return tuples;
+    }
+
+    /**
+     * Formatted as a list of pairs, e.g. "[(1, 2), (3, 4)]"
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (Cursor cursor = cursor(); cursor.advance(); ) {
+            if (cursor.index > 0) {
+                builder.append(", ");
+            }
+            builder.append('(').append(cursor.getFirst()).append(", ").append(cursor.getSecond()).append(')');
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * A forward-only view of the pairs of a buffer that reads members in place, without creating objects per pair.
+     * Pairs appended to the buffer after the cursor was created are visited as well.
+     */
+    public final class Cursor {
+
+        private long index = -1;
+        private ByteBuffer page;
+        private int offset;
+
+        /*
+         * Set when advance finds no next pair. The index stays on the last pair visited so that the next advance
+         * moves to the pair after it, should one have been appended since.
+         */
+        private boolean exhausted;
+
+        private Cursor() {
+        }
+
+        /**
+         * Move to the next pair.
+         *
+         * @return true if the cursor is positioned on a pair, false if there are no more pairs
+         */
+        public boolean advance() {
+            if (index + 1 >= size) {
+                exhausted = true;
+                return false;
+            }
+            exhausted = false;
+            ++index;
+            page = pages[(int) (index >>> PAGE_SHIFT)];
+            offset = ((int) index & PAGE_MASK) * PAIR_BYTES;
+            return true;
+        }
+
+        /**
+         * Return the index of the current pair.
+         *
+         * @return the index, -1 before the first call to advance; once advance returns false, the index of the last
+         * pair visited
+         */
+        public long index() {
+            return index;
+        }
+
+        /**
+         * Return the first member of the current pair.
+         *
+         * @return the first member
+         * @throws IllegalStateException if the cursor is not positioned on a pair
+         */
+        public long getFirst() {
+            checkPosition();
+            return page.getLong(offset);
+        }
+
+        /**
+         * Return the second member of the current pair.
+         *
+         * @return the second member
+         * @throws IllegalStateException if the cursor is not positioned on a pair
+         */
+        public long getSecond() {
+            checkPosition();
+            return page.getLong(offset + Long.BYTES);
+        }
+
+        /**
+         * Return a new tuple of the current pair.
+         *
+         * @return a new LongLongTuple
+         * @throws IllegalStateException if the cursor is not positioned on a pair
+         */
+        public LongLongTuple toTuple() {
+            return LongLongTuple.of(getFirst(), getSecond());
+        }
+
+        private void checkPosition() {
+            if (index < 0 || index >= size || exhausted) {
+                throw new IllegalStateException("Cursor is not positioned on a pair.");
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.wolfedgetech.justuple;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Encodes and decodes Tuples to and from a compact binary form, using a {@link MemberCodec} per member. Each Tuple is
+ * written as a one-byte type tag, recording which members are {@code null} and whether the Tuple is partial, followed
+ * by the non-null members. No class descriptors are written, so the form is much smaller and faster to process than
+ * that of Java serialization. Codecs are immutable and thread-safe.
+ *
+ * @param <U> the type of the first tuple member
+ * @param <V> the type of the second tuple member
+ */
+public final class TupleCodec<U, V> {
+
+    static final int FIRST_NULL = 1;
+    static final int SECOND_NULL = 2;
+    static final int PARTIAL = 4;
+
+    /*
+     * decodeAll presizes its list to the written count only up to this many Tuples, so that a corrupt count fails at
+     * the end of the input rather than by allocating its size up front.
+     */
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+    private final MemberCodec<U> firstCodec;
+    private final MemberCodec<V> secondCodec;
+
+    private TupleCodec(MemberCodec<U> firstCodec, MemberCodec<V> secondCodec) {
+        this.firstCodec = Objects.requireNonNull(firstCodec);
+        this.secondCodec = Objects.requireNonNull(secondCodec);
+    }
+
+    /**
+     * Return a codec for Tuples whose members are encoded by the given member codecs.
+     *
+     * @param firstCodec  encodes the non-null first members
+     * @param secondCodec encodes the non-null second members
+     * @param <U>         the type of the first member
+     * @param <V>         the type of the second member
+     * @return a Tuple codec
+     */
+    public static <U, V> TupleCodec<U, V> of(MemberCodec<U> firstCodec, MemberCodec<V> secondCodec) {
+        return new TupleCodec<>(firstCodec, secondCodec);
+    }
+
+    /**
+     * Write the binary form of the Tuple.
+     *
+     * @param tuple may not be null
+     * @param out   the destination
+     * @throws IOException if writing fails
+     */
+    public void encode(Tuple<? extends U, ? extends V> tuple, DataOutput out) throws IOException {
+        U first = tuple.getFirst();
+        V second = tuple.getSecond();
+        out.writeByte(tagOf(tuple));
+        if (first != null) {
+            firstCodec.write(first, out);
+        }
+        if (second != null) {
+            secondCodec.write(second, out);
+        }
+    }
+
+    /**
+     * Read a Tuple written by {@link #encode(Tuple, DataOutput)}.
+     *
+     * @param in the source, positioned at the start of the Tuple
+     * @return the Tuple
+     * @throws IOException if reading fails or the type tag is invalid
+     */
+    @SuppressWarnings("unchecked")
+    public Tuple<U, V> decode(DataInput in) throws IOException {
+        int tag = in.readUnsignedByte();
+        if ((tag & ~(FIRST_NULL | SECOND_NULL | PARTIAL)) != 0) {
+            throw new StreamCorruptedException("Invalid tuple type tag " + tag);
+        }
+        U first = (tag & FIRST_NULL) != 0 ? null : firstCodec.read(in);
+        V second = (tag & SECOND_NULL) != 0 ? null : secondCodec.read(in);
+        if ((tag & PARTIAL) != 0) {
+            return (Tuple<U, V>) Tuple.partial(first);
+        }
+        return Tuple.of(first, second);
+    }
+
+    /**
+     * Write the number of Tuples followed by the binary form of each.
+     *
+     * @param tuples may not be null but can be empty
+     * @param out    the destination
+     * @throws IOException if writing fails
+     */
+    public void encodeAll(Collection<? extends Tuple<? extends U, ? extends V>> tuples, DataOutput out)
+            throws IOException {
+        out.writeInt(tuples.size());
+        for (Tuple<? extends U, ? extends V> tuple : tuples) {
+            encode(tuple, out);
+        }
+    }
+
+    /**
+     * Read Tuples written by {@link #encodeAll(Collection, DataOutput)}.
+     *
+     * @param in the source, positioned at the start of the Tuples
+     * @return a new, modifiable list of the Tuples in the order they were written
+     * @throws IOException if reading fails or a type tag is invalid
+     */
+    public List<Tuple<U, V>> decodeAll(DataInput in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new StreamCorruptedException("Invalid tuple count " + count);
+        }
+        List<Tuple<U, V>> tuples = new ArrayList<>(Math.min(count, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < count; ++i) {
+            tuples.add(decode(in));
+        }
+        return tuples;
+    }
+
+    static int tagOf(Tuple<?, ?> tuple) {
+        return (tuple.getFirst() == null ? FIRST_NULL : 0)
+                | (tuple.getSecond() == null ? SECOND_NULL : 0)
+                | (tuple.isPartial() ? PARTIAL : 0);
+    }
+}
@@ -0,0 +1,292 @@
+package com.wolfedgetech.justuple;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A growable sequence of tuples stored column-wise: the first members of all tuples are held in one array and the
+ * second members in another. Compared to a {@code List<Tuple<U, V>>}, no Tuple object, object header or list slot is
+ * kept per element, and scanning a single column reads contiguous memory.
+ * <p>
+ * Tuples are only created when elements are read through {@link #get(int)}, {@link #asList()} or {@link #stream()};
+ * {@link #cursor()} reads them without creating any. Elements can be appended but not removed or replaced. Null
+ * members are supported. Not thread safe.
+ *
+ * @param <U> type of the tuples' first members
+ * @param <V> type of the tuples' second members
+ */
+public final class TupleColumns<U, V> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final Object[] EMPTY = {};
+
+    private Object[] firsts;
+    private Object[] seconds;
+    private int size;
+
+    /**
+     * Create empty columns.
+     */
+    public TupleColumns() {
+        firsts = EMPTY;
+        seconds = EMPTY;
+    }
+
+    /**
+     * Create empty columns that can hold the given number of tuples before growing.
+     *
+     * @param initialCapacity the initial capacity, zero or greater
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public TupleColumns(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        firsts = initialCapacity == 0 ? EMPTY : new Object[initialCapacity];
+        seconds = initialCapacity == 0 ? EMPTY : new Object[initialCapacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return the first member of the tuple at the given index.
+     *
+     * @param index zero or greater and less than the size
+     * @return the first member, possibly null
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public U getFirst(int index) {
+        checkIndex(index);
+        return (U) firsts[index];
+    }
+
+    /**
+     * Return the second member of the tuple at the given index.
+     *
+     * @param index zero or greater and less than the size
+     * @return the second member, possibly null
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public V getSecond(int index) {
+        checkIndex(index);
+        return (V) seconds[index];
+    }
+
+    /**
+     * Return a new Tuple of the members at the given index.
+     *
+     * @param index zero or greater and less than the size
+     * @return a new Tuple
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public Tuple<U, V> get(int index) {
+        checkIndex(index);
+        return Tuple.of((U) firsts[index], (V) seconds[index]);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index + " is outside range of 0 to " + size + " exclusive.");
+        }
+    }
+
+    /**
+     * Append a tuple of the given members.
+     *
+     * @param first  may be null
+     * @param second may be null
+     */
+    public void add(U first, V second) {
+        if (size == firsts.length) {
+            grow(size + 1);
+        }
+        firsts[size] = first;
+        seconds[size++] = second;
+    }
+
+    /**
+     * Append the members of the given tuple.
+     *
+     * @param tuple may not be null
+     */
+    public void add(Tuple<? extends U, ? extends V> tuple) {
+        add(tuple.getFirst(), tuple.getSecond());
+    }
+
+    /**
+     * Append the members of all given tuples in iteration order. If the argument is a Collection, the columns grow
+     * at most once.
+     *
+     * @param tuples may not be null but may be empty
+     */
+    public void addAll(Iterable<? extends Tuple<? extends U, ? extends V>> tuples) {
+        if (tuples instanceof Collection) {
+            ensureCapacity(size + ((Collection<?>) tuples).size());
+        }
+        for (Tuple<? extends U, ? extends V> tuple : tuples) {
+            add(tuple.getFirst(), tuple.getSecond());
+        }
+    }
+
+    /**
+     * Append all tuples held by the given columns by copying their column arrays.
+     *
+     * @param columns may not be null but may be empty; may be this instance
+     */
+    public void addAll(TupleColumns<? extends U, ? extends V> columns) {
+        int count = columns.size;
+        ensureCapacity(size + count);
+        System.arraycopy(columns.firsts, 0, firsts, size, count);
+        System.arraycopy(columns.seconds, 0, seconds, size, count);
+        size += count;
+    }
+
+    /**
+     * Make sure that the columns can hold the given number of tuples without growing.
+     *
+     * @param minCapacity the number of tuples to make room for
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > firsts.length) {
+            grow(minCapacity);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required capacity exceeds maximum array size.");
+        }
+        int capacity = Math.max(firsts.length + (firsts.length >> 1), DEFAULT_CAPACITY);
+        if (capacity - minCapacity < 0) {
+            capacity = minCapacity;
+        }
+        firsts = Arrays.copyOf(firsts, capacity);
+        seconds = Arrays.copyOf(seconds, capacity);
+    }
+
+    /**
+     * Return an unmodifiable List view of the first members. The view reflects tuples appended later.
+     *
+     * @return a RandomAccess List view
+     */
+    public List<U> firsts() {
+        return new ColumnView<>(true);
+    }
+
+    /**
+     * Return an unmodifiable List view of the second members. The view reflects tuples appended later.
+     *
+     * @return a RandomAccess List view
+     */
+    public List<V> seconds() {
+        return new ColumnView<>(false);
+    }
+
+    /**
+     * Return an unmodifiable List view of the tuples. Each access creates a new Tuple. The view reflects tuples
+     * appended later.
+     *
+     * @return a RandomAccess List view
+     */
+    public List<Tuple<U, V>> asList() {
+        return new TupleView();
+    }
+
+    /**
+     * Return a sequential Stream of the tuples currently held. Its Spliterator is SIZED and splits by index, making it
+     * suitable for parallel processing. The columns must not be appended to while the Stream is consumed.
+     *
+     * @return a Stream of new Tuple instances
+     */
+    @SuppressWarnings("unchecked")
+    public Stream<Tuple<U, V>> stream() {
+        Object[] firsts = this.firsts;
+        Object[] seconds = this.seconds;
+        return StreamSupport.stream(new IndexedZipSpliterator<>(
+                i -> (U) firsts[i], size,
+                i -> (V) seconds[i], size), false);
+    }
+
+    /**
+     * Return a cursor positioned before the first tuple, which reads the members in place without creating Tuples.
+     * The cursor reaches tuples appended while it is used.
+     *
+     * @return a new cursor
+     */
+    public TupleCursor<U, V> cursor() {
+        return new ColumnsCursor();
+    }
+
+    /**
+     * Formatted as a list of tuples, e.g. "[(a, 1), (b, 2)]"
+     */
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    private class ColumnView<T> extends AbstractList<T> implements RandomAccess {
+
+        private final boolean first;
+
+        ColumnView(boolean first) {
+            this.first = first;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            checkIndex(index);
+            return (T) (first ? firsts[index] : seconds[index]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private class TupleView extends AbstractList<Tuple<U, V>> implements RandomAccess {
+
+        @Override
+        public Tuple<U, V> get(int index) {
+            return TupleColumns.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private class ColumnsCursor extends TupleCursors.AbstractTupleCursor<U, V> {
+
+        private int index = -1;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        boolean load() {
+            if (index + 1 >= size) {
+                return false;
+            }
+            ++index;
+            first = (U) firsts[index];
+            second = (V) seconds[index];
+            return true;
+        }
+    }
+}
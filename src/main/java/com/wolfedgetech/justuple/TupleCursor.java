@@ -0,0 +1,48 @@
+package com.wolfedgetech.justuple;
+
+/**
+ * A read-only cursor over pairs of members, positioned on one pair at a time. Unlike iterating Tuples, advancing a
+ * cursor does not allocate a Tuple per pair; a Tuple is only created when {@link #toTuple()} is called. The members
+ * of the current pair must therefore be read before the cursor is advanced again.
+ * <p>
+ * Cursors are created by {@code Tuples.zipCursor}, {@code Tuples.cursor} and {@code TupleColumns.cursor}. They are not
+ * thread safe.
+ *
+ * @param <U> the type of the first members
+ * @param <V> the type of the second members
+ */
+public interface TupleCursor<U, V> {
+
+    /**
+     * Move to the next pair.
+     *
+     * @return true if the cursor is positioned on a pair, false if there are no more pairs
+     */
+    boolean advance();
+
+    /**
+     * Return the first member of the current pair.
+     *
+     * @return the first member, which may be null
+     * @throws IllegalStateException if the cursor is not positioned on a pair
+     */
+    U first();
+
+    /**
+     * Return the second member of the current pair.
+     *
+     * @return the second member, which may be null
+     * @throws IllegalStateException if the cursor is not positioned on a pair
+     */
+    V second();
+
+    /**
+     * Return a new Tuple of the current pair, which remains unchanged when the cursor advances.
+     *
+     * @return a new Tuple
+     * @throws IllegalStateException if the cursor is not positioned on a pair
+     */
+    default Tuple<U, V> toTuple() {
+        return Tuple.of(first(), second());
+    }
+}
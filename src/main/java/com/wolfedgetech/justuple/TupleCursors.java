@@ -0,0 +1,134 @@
+package com.wolfedgetech.justuple;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * The {@code TupleCursor} implementations over iterators and spliterators. Each holds the members of the current pair
+ * in fields that are overwritten as it advances.
+ */
+final class TupleCursors {
+
+    private TupleCursors() {
+        /* prevent instantiation */
+    }
+
+    abstract static class AbstractTupleCursor<U, V> implements TupleCursor<U, V> {
+
+        U first;
+        V second;
+        private boolean positioned;
+
+        /*
+         * Load the members of the next pair, returning false if there is none.
+         */
+        abstract boolean load();
+
+        @Override
+        public final boolean advance() {
+            positioned = load();
+            if (!positioned) {
+                first = null;
+                second = null;
+            }
+            return positioned;
+        }
+
+        @Override
+        public final U first() {
+            checkPosition();
+            return first;
+        }
+
+        @Override
+        public final V second() {
+            checkPosition();
+            return second;
+        }
+
+        private void checkPosition() {
+            if (!positioned) {
+                throw new IllegalStateException("Cursor is not positioned on a pair.");
+            }
+        }
+    }
+
+    /*
+     * Pairs the items of two iterators, with null in place of the items past the end of the shorter one.
+     */
+    static final class ZipIteratorCursor<U, V> extends AbstractTupleCursor<U, V> {
+
+        private final Iterator<U> firstItems;
+        private final Iterator<V> secondItems;
+
+        ZipIteratorCursor(Iterator<U> firstItems, Iterator<V> secondItems) {
+            this.firstItems = Objects.requireNonNull(firstItems, "First Items cannot be null.");
+            this.secondItems = Objects.requireNonNull(secondItems, "Second Items cannot be null.");
+        }
+
+        @Override
+        boolean load() {
+            boolean hasFirst = firstItems.hasNext();
+            boolean hasSecond = secondItems.hasNext();
+            first = hasFirst ? firstItems.next() : null;
+            second = hasSecond ? secondItems.next() : null;
+            return hasFirst || hasSecond;
+        }
+    }
+
+    /*
+     * Pairs the items of two spliterators, with null in place of the items past the end of the shorter one. The
+     * consumers receiving the items are created once rather than per pair.
+     */
+    static final class ZipSpliteratorCursor<U, V> extends AbstractTupleCursor<U, V> {
+
+        private final Spliterator<U> firstItems;
+        private final Spliterator<V> secondItems;
+        private final Consumer<U> firstLoader = item -> first = item;
+        private final Consumer<V> secondLoader = item -> second = item;
+
+        ZipSpliteratorCursor(Spliterator<U> firstItems, Spliterator<V> secondItems) {
+            this.firstItems = firstItems;
+            this.secondItems = secondItems;
+        }
+
+        @Override
+        boolean load() {
+            boolean hasFirst = firstItems.tryAdvance(firstLoader);
+            boolean hasSecond = secondItems.tryAdvance(secondLoader);
+            if (!hasFirst) {
+                first = null;
+            }
+            if (!hasSecond) {
+                second = null;
+            }
+            return hasFirst || hasSecond;
+        }
+    }
+
+    /*
+     * Positions on the entries of a map as (key, value) pairs.
+     */
+    static final class MapCursor<U, V> extends AbstractTupleCursor<U, V> {
+
+        private final Iterator<? extends Map.Entry<? extends U, ? extends V>> entries;
+
+        MapCursor(Map<? extends U, ? extends V> map) {
+            this.entries = map.entrySet().iterator();
+        }
+
+        @Override
+        boolean load() {
+            if (!entries.hasNext()) {
+                return false;
+            }
+            Map.Entry<? extends U, ? extends V> entry = entries.next();
+            first = entry.getKey();
+            second = entry.getValue();
+            return true;
+        }
+    }
+}
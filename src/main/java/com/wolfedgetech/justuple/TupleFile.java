@@ -0,0 +1,369 @@
+package com.wolfedgetech.justuple;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * A read-only sequence of tuples persisted in a file and accessed through memory mapping. Opening a file only maps it;
+ * tuples are decoded in place, one at a time, when they are read by index, iterated or streamed. This makes reopening
+ * even multi-gigabyte files effectively instant.
+ * <p>
+ * Members are encoded by a {@link MemberCodec} per member. When both codecs have a fixed width, the tuples are stored
+ * as fixed-width records that are located by multiplication. Otherwise each record is prefixed by its length and an
+ * index of record offsets follows the records. {@code null} members are supported either way.
+ * <p>
+ * Files are created by {@link #write(Path, Iterable, MemberCodec, MemberCodec)} and read by
+ * {@link #open(Path, MemberCodec, MemberCodec)}, which must be given codecs of the same widths. Reading is
+ * thread-safe. Mapped memory is released when the TupleFile is garbage collected, not when it is closed.
+ *
+ * @param <U> type of the tuples' first members
+ * @param <V> type of the tuples' second members
+ */
+public final class TupleFile<U, V> implements Iterable<Tuple<U, V>>, Closeable {
+
+    private static final int MAGIC = 0x4A545046; // "JTPF"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 40;
+    private static final long REGION_BYTES = 1L << 30;
+    private static final int FIRST_NULL = 1;
+    private static final int SECOND_NULL = 2;
+
+    private final FileChannel channel;
+    private final MemberCodec<U> firstCodec;
+    private final MemberCodec<V> secondCodec;
+    private final long size;
+    private final int recordBytes;
+    private final Mapping records;
+    private final Mapping offsets;
+
+    private TupleFile(FileChannel channel, MemberCodec<U> firstCodec, MemberCodec<V> secondCodec, long size,
+                      int recordBytes, Mapping records, Mapping offsets) {
+        this.channel = channel;
+        this.firstCodec = firstCodec;
+        this.secondCodec = secondCodec;
+        this.size = size;
+        this.recordBytes = recordBytes;
+        this.records = records;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Write the given tuples to a file, replacing any existing content.
+     *
+     * @param path        the file to write
+     * @param tuples      may not be null, nor may any tuple, but tuple members may be null
+     * @param firstCodec  encodes the non-null first members
+     * @param secondCodec encodes the non-null second members
+     * @param <U>         type of the tuples' first members
+     * @param <V>         type of the tuples' second members
+     * @throws IOException           if writing fails
+     * @throws IllegalStateException if a fixed-width codec writes a different number of bytes than its width
+     */
+    public static <U, V> void write(Path path, Iterable<? extends Tuple<? extends U, ? extends V>> tuples,
+                                    MemberCodec<U> firstCodec, MemberCodec<V> secondCodec) throws IOException {
+        int firstWidth = firstCodec.width();
+        int secondWidth = secondCodec.width();
+        boolean fixedWidth = firstWidth >= 0 && secondWidth >= 0;
+        int recordBytes = fixedWidth ? 1 + firstWidth + secondWidth : -1;
+        byte[] padding = new byte[Math.max(firstWidth, secondWidth) + 1];
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(record);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             DataOutputStream out = new DataOutputStream(
+                     new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16))) {
+            out.write(new byte[HEADER_BYTES]);
+            long position = HEADER_BYTES;
+            long count = 0;
+            int maxRecordBytes = Math.max(recordBytes, 0);
+            long[] recordOffsets = new long[fixedWidth ? 0 : 16];
+
+            for (Tuple<? extends U, ? extends V> tuple : tuples) {
+                record.reset();
+                U first = tuple.getFirst();
+                V second = tuple.getSecond();
+                recordOut.writeByte((first == null ? FIRST_NULL : 0) | (second == null ? SECOND_NULL : 0));
+                if (first != null) {
+                    firstCodec.write(first, recordOut);
+                } else if (fixedWidth) {
+                    recordOut.write(padding, 0, firstWidth);
+                }
+                if (second != null) {
+                    secondCodec.write(second, recordOut);
+                } else if (fixedWidth) {
+                    recordOut.write(padding, 0, secondWidth);
+                }
+
+                if (fixedWidth) {
+                    if (record.size() != recordBytes) {
+                        throw new IllegalStateException("Fixed-width codecs wrote " + record.size()
+                                + " bytes for " + tuple + " instead of " + recordBytes + '.');
+                    }
+                    position += recordBytes;
+                } else {
+                    if (count == recordOffsets.length) {
+                        if (count > Integer.MAX_VALUE / 2) {
+                            throw new IllegalStateException("Too many tuples of variable width to index.");
+                        }
+                        recordOffsets = Arrays.copyOf(recordOffsets, recordOffsets.length * 2);
+                    }
+                    recordOffsets[(int) count] = position;
+                    out.writeInt(record.size());
+                    position += Integer.BYTES + record.size();
+                    maxRecordBytes = Math.max(maxRecordBytes, Integer.BYTES + record.size());
+                }
+                record.writeTo(out);
+                ++count;
+            }
+
+            long offsetsPosition = -1;
+            if (!fixedWidth) {
+                offsetsPosition = position;
+                for (int i = 0; i < count; ++i) {
+                    out.writeLong(recordOffsets[i]);
+                }
+            }
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putLong(count)
+                    .putInt(firstWidth).putInt(secondWidth).putInt(maxRecordBytes).putInt(0)
+                    .putLong(offsetsPosition)
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+    }
+
+    /**
+     * Open a file created by {@link #write(Path, Iterable, MemberCodec, MemberCodec)} by mapping it into memory.
+     *
+     * @param path        the file to read
+     * @param firstCodec  decodes the non-null first members; must have the width of the codec used to write
+     * @param secondCodec decodes the non-null second members; must have the width of the codec used to write
+     * @param <U>         type of the tuples' first members
+     * @param <V>         type of the tuples' second members
+     * @return an open TupleFile, which should be closed after use
+     * @throws IOException if the file cannot be read, is not a tuple file, or was written with codecs of other widths
+     */
+    public static <U, V> TupleFile<U, V> open(Path path, MemberCodec<U> firstCodec, MemberCodec<V> secondCodec)
+            throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException(path + " is too short to be a tuple file.");
+                }
+            }
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw new IOException(path + " is not a tuple file.");
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException(path + " has unsupported version " + version + '.');
+            }
+            long size = header.getLong();
+            int firstWidth = header.getInt();
+            int secondWidth = header.getInt();
+            if (Math.max(firstWidth, -1) != Math.max(firstCodec.width(), -1)
+                    || Math.max(secondWidth, -1) != Math.max(secondCodec.width(), -1)) {
+                throw new IOException(path + " was written with member widths " + firstWidth + " and " + secondWidth
+                        + " but codecs of widths " + firstCodec.width() + " and " + secondCodec.width()
+                        + " were given.");
+            }
+            int maxRecordBytes = header.getInt();
+            header.getInt();
+            long offsetsPosition = header.getLong();
+
+            boolean fixedWidth = offsetsPosition < 0;
+            int recordBytes = fixedWidth ? 1 + firstWidth + secondWidth : -1;
+            long recordsEnd = fixedWidth ? HEADER_BYTES + size * recordBytes : offsetsPosition;
+            Mapping records = Mapping.map(channel, HEADER_BYTES, recordsEnd, maxRecordBytes);
+            Mapping offsets = fixedWidth
+                    ? null
+                    : Mapping.map(channel, offsetsPosition, offsetsPosition + size * Long.BYTES, Long.BYTES);
+            return new TupleFile<>(channel, firstCodec, secondCodec, size, recordBytes, records, offsets);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Decode the tuple at the given index.
+     *
+     * @param index zero or greater and less than the size
+     * @return a new Tuple
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException     if this file has been closed
+     * @throws UncheckedIOException      if the tuple cannot be decoded
+     */
+    public Tuple<U, V> get(long index) {
+        checkOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index + " is outside range of 0 to " + size + " exclusive.");
+        }
+        long position = offsets == null
+                ? HEADER_BYTES + index * recordBytes
+                : offsets.getLong(offsets.start + index * Long.BYTES) + Integer.BYTES;
+        return decode(new ByteBufferDataInput(records.bufferAt(position)));
+    }
+
+    private Tuple<U, V> decode(ByteBufferDataInput in) {
+        try {
+            byte nulls = in.readByte();
+            U first = decode(in, firstCodec, (nulls & FIRST_NULL) != 0);
+            V second = decode(in, secondCodec, (nulls & SECOND_NULL) != 0);
+            return Tuple.of(first, second);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> T decode(ByteBufferDataInput in, MemberCodec<T> codec, boolean isNull) throws IOException {
+        if (!isNull) {
+            return codec.read(in);
+        } else if (recordBytes > 0) {
+            in.skipBytes(codec.width());
+        }
+        return null;
+    }
+
+    private void checkOpen() {
+        if (!channel.isOpen()) {
+            throw new IllegalStateException("TupleFile is closed.");
+        }
+    }
+
+    /**
+     * Return an iterator decoding the tuples sequentially, in file order.
+     *
+     * @return a new iterator
+     * @throws IllegalStateException if this file has been closed
+     */
+    @Override
+    public Iterator<Tuple<U, V>> iterator() {
+        checkOpen();
+        return new Iterator<Tuple<U, V>>() {
+            private long index;
+            private long position = HEADER_BYTES;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public Tuple<U, V> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ByteBuffer buffer = records.bufferAt(position);
+                int length = recordBytes;
+                if (offsets != null) {
+                    length = Integer.BYTES + buffer.getInt();
+                }
+                position += length;
+                ++index;
+                return decode(new ByteBufferDataInput(buffer));
+            }
+        };
+    }
+
+    /**
+     * Return a sequential Stream of the tuples. Its Spliterator is SIZED and splits by index, making it suitable for
+     * parallel processing.
+     *
+     * @return a Stream of new Tuple instances
+     * @throws IllegalStateException if this file has been closed
+     */
+    public Stream<Tuple<U, V>> stream() {
+        checkOpen();
+        return LongStream.range(0, size).mapToObj(this::get);
+    }
+
+    /**
+     * Close the underlying file channel. The tuples can no longer be read afterwards.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /*
+     * A range of a file mapped as consecutive regions of up to 1 GiB. Each region additionally maps enough of the
+     * following bytes to hold the largest record, so that any record starting in a region can be read from it alone.
+     */
+    private static final class Mapping {
+
+        private final long start;
+        private final MappedByteBuffer[] regions;
+
+        private Mapping(long start, MappedByteBuffer[] regions) {
+            this.start = start;
+            this.regions = regions;
+        }
+
+        static Mapping map(FileChannel channel, long start, long end, int maxRecordBytes) throws IOException {
+            if (maxRecordBytes > REGION_BYTES) {
+                throw new IOException("Records of " + maxRecordBytes + " bytes are too large to be mapped.");
+            } else if (end > channel.size()) {
+                throw new IOException("Tuple file is truncated.");
+            }
+            int count = (int) ((end - start + REGION_BYTES - 1) / REGION_BYTES);
+            MappedByteBuffer[] regions = new MappedByteBuffer[count];
+            for (int i = 0; i < count; ++i) {
+                long regionStart = start + i * REGION_BYTES;
+                long regionEnd = Math.min(end, regionStart + REGION_BYTES + maxRecordBytes);
+                regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionEnd - regionStart);
+            }
+            return new Mapping(start, regions);
+        }
+
+        /*
+         * Return a new buffer sharing the mapped memory, positioned at the given file position.
+         */
+        ByteBuffer bufferAt(long position) {
+            long relative = position - start;
+            int region = (int) (relative / REGION_BYTES);
+            ByteBuffer buffer = regions[region].duplicate();
+            buffer.position((int) (relative - region * REGION_BYTES));
+            return buffer;
+        }
+
+        long getLong(long position) {
+            long relative = position - start;
+            int region = (int) (relative / REGION_BYTES);
+            return regions[region].getLong((int) (relative - region * REGION_BYTES));
+        }
+    }
+}
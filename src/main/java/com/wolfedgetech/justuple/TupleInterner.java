@@ -0,0 +1,131 @@
+package com.wolfedgetech.justuple;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical Tuples. Interning returns the pooled Tuple equal to the given one, so that duplicate-heavy data
+ * can share a single instance per distinct pair of members and compare by identity. Pooled Tuples are only weakly
+ * referenced and are dropped once nothing else references them.
+ * <p>
+ * The pool is split into independently locked segments selected by hash code, so threads interning different Tuples
+ * rarely contend. Tuples should only be interned if their members are immutable. Partial Tuples, which pair a single
+ * item when an odd number of items is grouped, are never pooled, so interning never changes whether a Tuple is partial.
+ */
+public final class TupleInterner {
+
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final int MAX_CONCURRENCY_LEVEL = 1 << 16;
+
+    private static final TupleInterner SHARED = new TupleInterner();
+
+    private final Segment[] segments;
+
+    /**
+     * Create an empty pool with the default number of segments.
+     */
+    public TupleInterner() {
+        this(DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Create an empty pool sized for the given number of concurrently interning threads.
+     *
+     * @param concurrencyLevel greater than zero
+     * @throws IllegalArgumentException if the concurrency level is not positive
+     */
+    public TupleInterner(int concurrencyLevel) {
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Illegal concurrency level: " + concurrencyLevel);
+        }
+        int segmentCount = 1;
+        while (segmentCount < Math.min(concurrencyLevel, MAX_CONCURRENCY_LEVEL)) {
+            segmentCount <<= 1;
+        }
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; ++i) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Return the pool used by {@link Tuple#intern()}.
+     *
+     * @return the shared pool
+     */
+    public static TupleInterner shared() {
+        return SHARED;
+    }
+
+    /**
+     * Return the pooled Tuple equal to the given one, pooling the given Tuple if there is none.
+     *
+     * @param tuple may not be null
+     * @param <U>   the type of the first member
+     * @param <V>   the type of the second member
+     * @return the canonical Tuple, or the given Tuple if it is partial
+     */
+    public <U, V> Tuple<U, V> intern(Tuple<U, V> tuple) {
+        if (tuple.isPartial()) {
+            return tuple;
+        }
+        return segmentFor(tuple).intern(tuple);
+    }
+
+    /**
+     * Return the pooled Tuple of the given members, pooling a new Tuple if there is none.
+     *
+     * @param first  may be null
+     * @param second may be null
+     * @param <U>    the type of the first member
+     * @param <V>    the type of the second member
+     * @return the canonical Tuple
+     */
+    public <U, V> Tuple<U, V> intern(U first, V second) {
+        return intern(Tuple.of(first, second));
+    }
+
+    /**
+     * Return the number of pooled Tuples. Tuples that are no longer referenced may still be counted until the pool
+     * notices that they have been garbage collected.
+     *
+     * @return zero or greater
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(Tuple<?, ?> tuple) {
+        int h = tuple.hashCode();
+        h ^= (h >>> 16);
+        return segments[h & (segments.length - 1)];
+    }
+
+    /*
+     * The canonical Tuple is both the key and the referent of the value, so the entry holds it only weakly.
+     */
+    private static final class Segment {
+
+        private final Map<Tuple<?, ?>, WeakReference<Tuple<?, ?>>> pool = new WeakHashMap<>();
+
+        @SuppressWarnings("unchecked")
+        synchronized <U, V> Tuple<U, V> intern(Tuple<U, V> tuple) {
+            WeakReference<Tuple<?, ?>> reference = pool.get(tuple);
+            Tuple<?, ?> canonical = reference == null ? null : reference.get();
+            if (canonical == null) {
+                pool.put(tuple, new WeakReference<>(tuple));
+                return tuple;
+            }
+            return (Tuple<U, V>) canonical;
+        }
+
+        synchronized int size() {
+            return pool.size();
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package com.wolfedgetech.justuple;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * A hash map whose keys are pairs of members, looked up by the two members directly. Unlike a {@code Map} keyed by
+ * {@code Tuple}, neither {@link #get(Object, Object)} nor {@link #put(Object, Object, Object)} needs a Tuple to be
+ * allocated per call.
+ * <p>
+ * Keys are stored inline in open-addressed, linearly probed arrays, along with their hash codes so that most
+ * mismatching probes are rejected without calling {@code equals}. Key hash codes equal those of the corresponding
+ * Tuples, so methods taking a Tuple key reuse its cached hash code. Null members and null values are supported. Not
+ * thread safe.
+ *
+ * @param <U> type of the keys' first members
+ * @param <V> type of the keys' second members
+ * @param <R> type of the mapped values
+ */
+public final class TupleKeyMap<U, V, R> {
+
+    private static final int MIN_CAPACITY = 8;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /*
+     * A zero hash marks an empty slot, so stored hashes are never zero; see spread.
+     */
+    private int[] hashes;
+    private Object[] firsts;
+    private Object[] seconds;
+    private Object[] values;
+    private int size;
+
+    /*
+     * Counts insertions and removals, so that computeIfAbsent can detect a function that modified this map.
+     */
+    private int modCount;
+
+    /**
+     * Create an empty map.
+     */
+    public TupleKeyMap() {
+        this(0);
+    }
+
+    /**
+     * Create an empty map that holds the given number of entries before growing.
+     *
+     * @param expectedSize zero or greater
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    public TupleKeyMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Return a map holding the entries of the given Tuple-keyed map.
+     *
+     * @param map may not be null, nor contain a null key
+     * @param <U> type of the keys' first members
+     * @param <V> type of the keys' second members
+     * @param <R> type of the mapped values
+     * @return a new TupleKeyMap
+     */
+    public static <U, V, R> TupleKeyMap<U, V, R> of(Map<? extends Tuple<U, V>, ? extends R> map) {
+        TupleKeyMap<U, V, R> tupleKeyMap = new TupleKeyMap<>(map.size());
+        map.forEach(tupleKeyMap::put);
+        return tupleKeyMap;
+    }
+
+    /*
+     * The smallest power of two that keeps the load factor at or below one half.
+     */
+    private static int capacityFor(int size) {
+        if (size > MAX_CAPACITY / 2) {
+            return MAX_CAPACITY;
+        }
+        int capacity = MIN_CAPACITY;
+        while (capacity < 2 * size) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private void allocate(int capacity) {
+        hashes = new int[capacity];
+        firsts = new Object[capacity];
+        seconds = new Object[capacity];
+        values = new Object[capacity];
+    }
+
+    /*
+     * Derive the stored hash from the key hash code, mixing high bits into the low bits used as the slot index.
+     */
+    private static int spread(int tupleHash) {
+        int h = tupleHash ^ (tupleHash >>> 16);
+        return h == 0 ? 1 : h;
+    }
+
+    private static int hash(Object first, Object second) {
+        return spread(31 * (31 + Objects.hashCode(first)) + Objects.hashCode(second));
+    }
+
+    /*
+     * Return the slot holding the key, or the bitwise complement of the empty slot where it would be inserted.
+     */
+    private int find(Object first, Object second, int hash) {
+        int mask = hashes.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int slotHash = hashes[slot];
+            if (slotHash == 0) {
+                return ~slot;
+            } else if (slotHash == hash
+                    && Objects.equals(firsts[slot], first)
+                    && Objects.equals(seconds[slot], second)) {
+                return slot;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return the value mapped to the key of the given members.
+     *
+     * @param first  may be null
+     * @param second may be null
+     * @return the mapped value, or null if there is none
+     */
+    public R get(U first, V second) {
+        return valueAt(find(first, second, hash(first, second)));
+    }
+
+    /**
+     * Return the value mapped to the members of the given Tuple key.
+     *
+     * @param key may not be null
+     * @return the mapped value, or null if there is none
+     */
+    public R get(Tuple<U, V> key) {
+        return valueAt(find(key.getFirst(), key.getSecond(), spread(key.hashCode())));
+    }
+
+    @SuppressWarnings("unchecked")
+    private R valueAt(int slot) {
+        return slot < 0 ? null : (R) values[slot];
+    }
+
+    /**
+     * Return true if a value is mapped to the key of the given members, even if that value is null.
+     *
+     * @param first  may be null
+     * @param second may be null
+     * @return true if the key is present
+     */
+    public boolean containsKey(U first, V second) {
+        return find(first, second, hash(first, second)) >= 0;
+    }
+
+    /**
+     * Return true if a value is mapped to the members of the given Tuple key, even if that value is null.
+     *
+     * @param key may not be null
+     * @return true if the key is present
+     */
+    public boolean containsKey(Tuple<U, V> key) {
+        return find(key.getFirst(), key.getSecond(), spread(key.hashCode())) >= 0;
+    }
+
+    /**
+     * Map the value to the key of the given members, replacing any previously mapped value.
+     *
+     * @param first  may be null
+     * @param second may be null
+     * @param value  may be null
+     * @return the previously mapped value, or null if there was none
+     */
+    public R put(U first, V second, R value) {
+        return put(first, second, hash(first, second), value);
+    }
+
+    /**
+     * Map the value to the members of the given Tuple key, replacing any previously mapped value.
+     *
+     * @param key   may not be null
+     * @param value may be null
+     * @return the previously mapped value, or null if there was none
+     */
+    public R put(Tuple<U, V> key, R value) {
+        return put(key.getFirst(), key.getSecond(), spread(key.hashCode()), value);
+    }
+
+    private R put(U first, V second, int hash, R value) {
+        int slot = find(first, second, hash);
+        if (slot >= 0) {
+            R previous = valueAt(slot);
+            values[slot] = value;
+            return previous;
+        }
+        insert(~slot, first, second, hash, value);
+        return null;
+    }
+
+    /**
+     * Return the value mapped to the key of the given members. If there is none, or it is null, compute the value from
+     * the members and map it, unless it is null. This mirrors {@code Map.computeIfAbsent}; as with
+     * {@code HashMap}, the function must not add or remove keys of this map.
+     *
+     * @param first    may be null
+     * @param second   may be null
+     * @param function computes the value to map from the key members; may return null
+     * @return the current or computed value
+     * @throws ConcurrentModificationException if the function added or removed keys of this map
+     */
+    public R computeIfAbsent(U first, V second, BiFunction<? super U, ? super V, ? extends R> function) {
+        int hash = hash(first, second);
+        int slot = find(first, second, hash);
+        R value = valueAt(slot);
+        if (value == null) {
+            int expectedModCount = modCount;
+            value = function.apply(first, second);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (value != null) {
+                if (slot >= 0) {
+                    values[slot] = value;
+                } else {
+                    insert(~slot, first, second, hash, value);
+                }
+            }
+        }
+        return value;
+    }
+
+    private void insert(int slot, U first, V second, int hash, R value) {
+        if (2 * (size + 1) > hashes.length && hashes.length < MAX_CAPACITY) {
+            resize(hashes.length << 1);
+            slot = ~find(first, second, hash);
+        }
+        hashes[slot] = hash;
+        firsts[slot] = first;
+        seconds[slot] = second;
+        values[slot] = value;
+        ++size;
+        ++modCount;
+    }
+
+    private void resize(int capacity) {
+        int[] oldHashes = hashes;
+        Object[] oldFirsts = firsts;
+        Object[] oldSeconds = seconds;
+        Object[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldHashes.length; ++i) {
+            int hash = oldHashes[i];
+            if (hash != 0) {
+                int slot = hash & mask;
+                while (hashes[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                hashes[slot] = hash;
+                firsts[slot] = oldFirsts[i];
+                seconds[slot] = oldSeconds[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Remove the key of the given members.
+     *
+     * @param first  may be null
+     * @param second may be null
+     * @return the previously mapped value, or null if there was none
+     */
+    public R remove(U first, V second) {
+        return removeAt(find(first, second, hash(first, second)));
+    }
+
+    /**
+     * Remove the members of the given Tuple key.
+     *
+     * @param key may not be null
+     * @return the previously mapped value, or null if there was none
+     */
+    public R remove(Tuple<U, V> key) {
+        return removeAt(find(key.getFirst(), key.getSecond(), spread(key.hashCode())));
+    }
+
+    /*
+     * Empty the slot and shift back later entries of the probe sequence that would otherwise become unreachable.
+     */
+    private R removeAt(int slot) {
+        if (slot < 0) {
+            return null;
+        }
+        R previous = valueAt(slot);
+        int mask = hashes.length - 1;
+        int gap = slot;
+        for (int i = (gap + 1) & mask; hashes[i] != 0; i = (i + 1) & mask) {
+            int home = hashes[i] & mask;
+            // move the entry into the gap unless its home slot lies cyclically within (gap, i]
+            boolean reachable = gap <= i ? gap < home && home <= i : gap < home || home <= i;
+            if (!reachable) {
+                hashes[gap] = hashes[i];
+                firsts[gap] = firsts[i];
+                seconds[gap] = seconds[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        hashes[gap] = 0;
+        firsts[gap] = null;
+        seconds[gap] = null;
+        values[gap] = null;
+        --size;
+        ++modCount;
+        return previous;
+    }
+
+    /**
+     * Remove all entries, keeping the current capacity.
+     */
+    public void clear() {
+        Arrays.fill(hashes, 0);
+        Arrays.fill(firsts, null);
+        Arrays.fill(seconds, null);
+        Arrays.fill(values, null);
+        size = 0;
+        ++modCount;
+    }
+
+    /**
+     * Pass every entry to the given action, with the key as a new Tuple.
+     *
+     * @param action may not be null
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super Tuple<U, V>, ? super R> action) {
+        for (int i = 0; i < hashes.length; ++i) {
+            if (hashes[i] != 0) {
+                action.accept(Tuple.of((U) firsts[i], (V) seconds[i]), (R) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Return the entries as a new Map keyed by Tuples.
+     *
+     * @return a new, modifiable Map
+     */
+    public Map<Tuple<U, V>, R> toMap() {
+        Map<Tuple<U, V>, R> map = new HashMap<>(Math.max((int) (size / 0.75f) + 1, 16));
+        forEach(map::put);
+        return map;
+    }
+
+    /**
+     * Formatted like a Map keyed by Tuples, e.g. "{(a, 1)=x, (b, 2)=y}"
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+}
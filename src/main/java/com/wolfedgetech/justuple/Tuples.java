@@ -1,10 +1,14 @@
 package com.wolfedgetech.justuple;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.function.UnaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -13,6 +17,11 @@ import java.util.stream.StreamSupport;
  */
 public abstract class Tuples {
 
+    /*
+     * Below this many tuples, parallelUnzip unzips sequentially.
+     */
+    private static final int PARALLEL_UNZIP_THRESHOLD = 1 << 14;
+
     private Tuples() {
         /* prevent instantiation */
     }
@@ -86,6 +95,150 @@ public abstract class Tuples {
         return tuples.collect(Collectors.toMap(Tuple::getFirst, Tuple::getSecond));
     }
 
+    /**
+     * Return the provided tuples as an unmodifiable Map optimized for reads, whose keys correspond to the tuples'
+     * first members and whose values correspond to the tuples' respective second members. Keys and values are stored
+     * in a single flat array rather than in per-entry nodes. Null keys and values are supported.
+     * <p>
+     * If there are at least two tuples that have identical first members (according to Object.equals(Object)), an
+     * IllegalStateException will be thrown.
+     *
+     * @param tuples cannot be null but may be empty
+     * @param <K>    the key type
+     * @param <V>    the value type
+     * @return an unmodifiable map whose size is equal to the number of tuples passed in
+     * @throws IllegalStateException if there are multiple tuples with equal first members
+     */
+    public static <K, V> Map<K, V> mapCompact(Iterable<Tuple<K, V>> tuples) {
+        if (tuples instanceof Collection) {
+            return mapCompact((Collection<Tuple<K, V>>) tuples);
+        }
+        CompactTupleMap<K, V> map = new CompactTupleMap<>(0);
+        for (Tuple<K, V> tuple : tuples) {
+            map.putUnique(tuple.getFirst(), tuple.getSecond());
+        }
+        return map;
+    }
+
+    /**
+     * Return the provided tuples as an unmodifiable Map optimized for reads, whose keys correspond to the tuples'
+     * first members and whose values correspond to the tuples' respective second members. Keys and values are stored
+     * in a single flat array rather than in per-entry nodes. Null keys and values are supported.
+     * <p>
+     * If there are at least two tuples that have identical first members (according to Object.equals(Object)), an
+     * IllegalStateException will be thrown.
+     *
+     * @param tuples cannot be null but may be empty
+     * @param <K>    the key type
+     * @param <V>    the value type
+     * @return an unmodifiable map whose size is equal to the number of tuples passed in
+     * @throws IllegalStateException if there are multiple tuples with equal first members
+     */
+    public static <K, V> Map<K, V> mapCompact(Collection<Tuple<K, V>> tuples) {
+        CompactTupleMap<K, V> map = new CompactTupleMap<>(tuples.size());
+        for (Tuple<K, V> tuple : tuples) {
+            map.putUnique(tuple.getFirst(), tuple.getSecond());
+        }
+        return map;
+    }
+
+    /**
+     * Return the provided tuples as an unmodifiable Map optimized for reads, whose keys correspond to the tuples'
+     * first members and whose values correspond to the tuples' respective second members. Keys and values are stored
+     * in a single flat array rather than in per-entry nodes. Null keys and values are supported.
+     * <p>
+     * If there are at least two tuples that have identical first members (according to Object.equals(Object)), an
+     * IllegalStateException will be thrown.
+     *
+     * @param tuples cannot be null but may be empty
+     * @param <K>    the key type
+     * @param <V>    the value type
+     * @return an unmodifiable map whose size is equal to the number of tuples passed in
+     * @throws IllegalStateException if there are multiple tuples with equal first members
+     */
+    @SafeVarargs
+    public static <K, V> Map<K, V> mapCompact(Tuple<K, V>... tuples) {
+        CompactTupleMap<K, V> map = new CompactTupleMap<>(tuples.length);
+        for (Tuple<K, V> tuple : tuples) {
+            map.putUnique(tuple.getFirst(), tuple.getSecond());
+        }
+        return map;
+    }
+
+    /**
+     * Return the provided tuples as an unmodifiable Map optimized for reads, whose keys correspond to the tuples'
+     * first members and whose values correspond to the tuples' respective second members. Keys and values are stored
+     * in a single flat array rather than in per-entry nodes. Null keys and values are supported.
+     * <p>
+     * If there are at least two tuples that have identical first members (according to Object.equals(Object)), an
+     * IllegalStateException will be thrown.
+     *
+     * @param tuples cannot be null but may be empty. The Stream will be consumed by this method.
+     * @param <K>    the key type
+     * @param <V>    the value type
+     * @return an unmodifiable map whose size is equal to the number of tuples passed in
+     * @throws IllegalStateException if there are multiple tuples with equal first members
+     */
+    public static <K, V> Map<K, V> mapCompact(Stream<Tuple<K, V>> tuples) {
+        Spliterator<Tuple<K, V>> spliterator = tuples.spliterator();
+        long size = spliterator.getExactSizeIfKnown();
+        CompactTupleMap<K, V> map = new CompactTupleMap<>(size >= 0 && size <= Integer.MAX_VALUE ? (int) size : 0);
+        spliterator.forEachRemaining(tuple -> map.putUnique(tuple.getFirst(), tuple.getSecond()));
+        return map;
+    }
+
+    /**
+     * Return the provided tuples as a Map whose keys correspond to the tuples' {@code int} first members and whose
+     * values correspond to the tuples' respective second members.
+     * <p>
+     * If there are at least two tuples that have identical first members, an IllegalStateException will be thrown.
+     *
+     * @param tuples cannot be null but may be empty
+     * @param <V>    the value type
+     * @return a map whose size is equal to the number of tuples passed in
+     * @throws IllegalStateException if there are multiple tuples with equal first members
+     */
+    public static <V> Map<Integer, V> mapIntKeys(Collection<IntObjTuple<V>> tuples) {
+        Map<Integer, V> map = new HashMap<>(capacityFor(tuples.size()));
+        for (IntObjTuple<V> tuple : tuples) {
+            putUnique(map, tuple.getFirst(), tuple.getSecond());
+        }
+        return map;
+    }
+
+    /**
+     * Return the provided tuples as a Map whose keys correspond to the tuples' {@code long} first members and whose
+     * values correspond to the tuples' respective second members.
+     * <p>
+     * If there are at least two tuples that have identical first members, an IllegalStateException will be thrown.
+     *
+     * @param tuples cannot be null but may be empty
+     * @param <V>    the value type
+     * @return a map whose size is equal to the number of tuples passed in
+     * @throws IllegalStateException if there are multiple tuples with equal first members
+     */
+    public static <V> Map<Long, V> mapLongKeys(Collection<LongObjTuple<V>> tuples) {
+        Map<Long, V> map = new HashMap<>(capacityFor(tuples.size()));
+        for (LongObjTuple<V> tuple : tuples) {
+            putUnique(map, tuple.getFirst(), tuple.getSecond());
+        }
+        return map;
+    }
+
+    /*
+     * The HashMap capacity needed to hold the given number of entries without rehashing.
+     */
+    private static int capacityFor(int size) {
+        return size < 3 ? size + 1 : (int) (size / 0.75f + 1.0f);
+    }
+
+    private static <K, V> void putUnique(Map<K, V> map, K key, V value) {
+        if (map.containsKey(key)) {
+            throw new IllegalStateException("Duplicate key " + key);
+        }
+        map.put(key, value);
+    }
+
     /**
      * Return the provided tuples as a Map with keys corresponding to the unique first members that exist for all
      * provided tuples. The values of the Map are all tuples' second members who share that first member value. For
@@ -98,7 +251,7 @@ public abstract class Tuples {
      * @return a map whose size is equal to the number of unique first member values among all provided tuples
      */
     public static <K, V> Map<K, List<V>> mapAll(Iterable<Tuple<K, V>> tuples) {
-        return mapAll(StreamSupport.stream(tuples.spliterator(), false));
+        return groupReduce(tuples, Aggregator.toList());
     }
 
     /**
@@ -113,7 +266,7 @@ public abstract class Tuples {
      * @return a map whose size is equal to the number of unique first member values among all provided tuples
      */
     public static <K, V> Map<K, List<V>> mapAll(Collection<Tuple<K, V>> tuples) {
-        return mapAll(tuples.stream());
+        return groupReduce(tuples, Aggregator.toList());
     }
 
     /**
@@ -129,7 +282,11 @@ public abstract class Tuples {
      */
     @SafeVarargs
     public static <K, V> Map<K, List<V>> mapAll(Tuple<K, V>... tuples) {
-        return mapAll(Arrays.stream(tuples));
+        Map<K, List<V>> map = new HashMap<>();
+        for (Tuple<K, V> tuple : tuples) {
+            map.computeIfAbsent(tuple.getFirst(), key -> new ArrayList<>()).add(tuple.getSecond());
+        }
+        return map;
     }
 
     /**
@@ -144,24 +301,196 @@ public abstract class Tuples {
      * @return a map whose size is equal to the number of unique first member values among all provided tuples
      */
     public static <K, V> Map<K, List<V>> mapAll(Stream<Tuple<K, V>> tuples) {
-        return unboxOptionalKeys(tuples.collect(mapOfFirstToListOfSecondCollector()));
+        return groupReduce(tuples, Aggregator.toList());
     }
 
-    /*
-     * groupingBy does not support null keys, so we box nulls in an Optional and unbox them with this method.
-     * The Map implementation we use in this method must handle null keys.
+    /**
+     * Return a concurrent Collector gathering tuples into a Map, as {@code map} does. The tuples of a parallel Stream
+     * are all inserted into one shared, thread-safe table rather than into a table per thread that must be merged
+     * afterwards. Null first and second members are supported.
+     * <p>
+     * If there are at least two tuples that have identical first members (according to Object.equals(Object)), an
+     * IllegalStateException will be thrown.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return a CONCURRENT and UNORDERED Collector of a thread-safe Map
+     */
+    public static <K, V> Collector<Tuple<K, V>, ?, Map<K, V>> concurrentMapCollector() {
+        return Collector.<Tuple<K, V>, NullMaskingMap<K, V>, Map<K, V>>of(
+                NullMaskingMap::new,
+                (map, tuple) -> map.putUnique(tuple.getFirst(), tuple.getSecond()),
+                (map, otherMap) -> {
+                    otherMap.forEach(map::putUnique);
+                    return map;
+                },
+                map -> map,
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED,
+                Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
+    /**
+     * Return a concurrent Collector gathering tuples into a Map of Lists, as {@code mapAll} does. The tuples of a
+     * parallel Stream are all inserted into one shared, thread-safe table rather than into a table per thread that
+     * must be merged afterwards, so the order of each List is unspecified. Null first and second members are
+     * supported.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return a CONCURRENT and UNORDERED Collector of a thread-safe Map
+     */
+    public static <K, V> Collector<Tuple<K, V>, ?, Map<K, List<V>>> concurrentMapAllCollector() {
+        return Collector.<Tuple<K, V>, NullMaskingMap<K, List<V>>, Map<K, List<V>>>of(
+                NullMaskingMap::new,
+                (map, tuple) -> map.compute(tuple.getFirst(), (key, values) -> {
+                    List<V> list = values == null ? new ArrayList<>() : values;
+                    list.add(tuple.getSecond());
+                    return list;
+                }),
+                (map, otherMap) -> {
+                    otherMap.forEach((key, otherValues) -> map.compute(key, (k, values) -> {
+                        List<V> list = values == null ? new ArrayList<>() : values;
+                        list.addAll(otherValues);
+                        return list;
+                    }));
+                    return map;
+                },
+                map -> map,
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED,
+                Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
+    /**
+     * Return a Map whose keys are the unique first members of the provided tuples and whose values are the results of
+     * reducing the second members sharing that first member with the given Aggregator. For example, with the
+     * {@code Aggregator.count()} aggregator, tuples (1,1), (1,2) and (2,3) result in the map {1=2, 2=1}. Null first
+     * members are supported and the values are accumulated directly into a single hash table.
+     *
+     * @param tuples     cannot be null but may be empty
+     * @param aggregator reduces the second members of each key
+     * @param <K>        the key type
+     * @param <V>        the type of the second members
+     * @param <R>        the type of the reduced values
+     * @return a modifiable map whose size is equal to the number of unique first member values
      */
-    private static <K, V> Map<K, V> unboxOptionalKeys(Map<Optional<K>, V> map) {
-        Map<K, V> nullKeySafeMap = new HashMap<>();
-        map.forEach((key, value) -> nullKeySafeMap.put(key.orElse(null), value));
-        return nullKeySafeMap;
+    public static <K, V, R> Map<K, R> groupReduce(Iterable<Tuple<K, V>> tuples,
+                                                  Aggregator<? super V, ?, R> aggregator) {
+        return groupReduceCaptured(tuples, aggregator);
+    }
+
+    private static <K, V, A, R> Map<K, R> groupReduceCaptured(Iterable<Tuple<K, V>> tuples,
+                                                              Aggregator<? super V, A, R> aggregator) {
+        Map<K, A> containers = new HashMap<>();
+        for (Tuple<K, V> tuple : tuples) {
+            aggregator.accumulate(containers.computeIfAbsent(tuple.getFirst(), key -> aggregator.create()),
+                    tuple.getSecond());
+        }
+        return finishAll(containers, aggregator);
     }
 
-    private static <K, V> Collector<Tuple<K, V>, ?, Map<Optional<K>, List<V>>> mapOfFirstToListOfSecondCollector() {
-        return Collectors.groupingBy(
-                tuple -> Optional.ofNullable(tuple.getFirst()),
-                Collectors.mapping(Tuple::getSecond, Collectors.toList())
+    /**
+     * Return a Map whose keys are the unique first members of the provided tuples and whose values are the results of
+     * reducing the second members sharing that first member with the given Aggregator. For example, with the
+     * {@code Aggregator.count()} aggregator, tuples (1,1), (1,2) and (2,3) result in the map {1=2, 2=1}. Null first
+     * members are supported. The tuples of a parallel Stream are reduced into a hash table per thread, which are then
+     * combined.
+     *
+     * @param tuples     cannot be null but may be empty. The Stream will be consumed by this method.
+     * @param aggregator reduces the second members of each key
+     * @param <K>        the key type
+     * @param <V>        the type of the second members
+     * @param <R>        the type of the reduced values
+     * @return a modifiable map whose size is equal to the number of unique first member values
+     */
+    public static <K, V, R> Map<K, R> groupReduce(Stream<Tuple<K, V>> tuples, Aggregator<? super V, ?, R> aggregator) {
+        return groupReduceCaptured(tuples, aggregator);
+    }
+
+    private static <K, V, A, R> Map<K, R> groupReduceCaptured(Stream<Tuple<K, V>> tuples,
+                                                              Aggregator<? super V, A, R> aggregator) {
+        Map<K, A> containers = tuples.collect(
+                HashMap::new,
+                (map, tuple) -> aggregator.accumulate(map.computeIfAbsent(tuple.getFirst(), key -> aggregator.create()),
+                        tuple.getSecond()),
+                (map, otherMap) -> otherMap.forEach((key, container) -> map.merge(key, container, aggregator::combine))
         );
+        return finishAll(containers, aggregator);
+    }
+
+    /*
+     * Replace every container with its result in place rather than copying the entries into a new map.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, A, R> Map<K, R> finishAll(Map<K, A> containers, Aggregator<?, A, R> aggregator) {
+        Map<K, Object> results = (Map<K, Object>) containers;
+        results.replaceAll((key, container) -> aggregator.finish((A) container));
+        return (Map<K, R>) results;
+    }
+
+    /**
+     * Return a List of Tuples pairing the elements at equal indexes of the two arrays, as {@code zip} does, but
+     * deciding whether the Tuples are {@code Serializable} once for all of them where possible. When both arrays'
+     * component types are Serializable, so is every element, and no element is checked.
+     *
+     * @param firstItems  may not be null but can be empty
+     * @param secondItems may not be null but can be empty
+     * @param <U>         the type of the Tuples first members
+     * @param <V>         the type of the Tuples second members
+     * @return a modifiable, RandomAccess List of the Tuples
+     */
+    public static <U, V> List<Tuple<U, V>> pairs(U[] firstItems, V[] secondItems) {
+        int size = Math.max(firstItems.length, secondItems.length);
+        int shared = Math.min(firstItems.length, secondItems.length);
+        List<Tuple<U, V>> tuples = new ArrayList<>(size);
+        if (Tuple.isSerializable(firstItems.getClass().getComponentType())
+                && Tuple.isSerializable(secondItems.getClass().getComponentType())) {
+            for (int i = 0; i < shared; ++i) {
+                tuples.add(Tuple.ofSerializable(firstItems[i], secondItems[i]));
+            }
+        } else {
+            for (int i = 0; i < shared; ++i) {
+                tuples.add(Tuple.of(firstItems[i], secondItems[i]));
+            }
+        }
+        for (int i = shared; i < size; ++i) {
+            tuples.add(Tuple.of(i < firstItems.length ? firstItems[i] : null,
+                    i < secondItems.length ? secondItems[i] : null));
+        }
+        return tuples;
+    }
+
+    /**
+     * Return a List of Tuples pairing each item with the value the function maps it to, in iteration order. Whether
+     * the Tuples are {@code Serializable} is decided again only when the classes of the members differ from those of
+     * the previous Tuple, so homogeneous items are decided once.
+     *
+     * @param items  may not be null but can be empty
+     * @param mapper maps each item to the second member of its Tuple
+     * @param <U>    the type of the items and Tuples first members
+     * @param <V>    the type of the Tuples second members
+     * @return a modifiable, RandomAccess List of the Tuples
+     */
+    public static <U, V> List<Tuple<U, V>> ofAll(Collection<U> items, Function<? super U, ? extends V> mapper) {
+        List<Tuple<U, V>> tuples = new ArrayList<>(items.size());
+        Class<?> firstType = null;
+        Class<?> secondType = null;
+        boolean serializable = true;
+        for (U item : items) {
+            V value = mapper.apply(item);
+            Class<?> itemType = item == null ? null : item.getClass();
+            Class<?> valueType = value == null ? null : value.getClass();
+            if (itemType != firstType || valueType != secondType) {
+                firstType = itemType;
+                secondType = valueType;
+                serializable = Tuple.isSerializable(itemType) && Tuple.isSerializable(valueType);
+            }
+            tuples.add(serializable ? Tuple.ofSerializable(item, value) : Tuple.ofNonSerializable(item, value));
+        }
+        return tuples;
     }
 
     /**
@@ -179,6 +508,21 @@ public abstract class Tuples {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Return a Set view of the provided Map's entries as tuples without copying them. Tuples are created on demand
+     * as the view is iterated, and {@code contains} looks up the tuple's first member as a key in the Map. The view
+     * cannot be modified but reflects changes made to the Map. Null keys and values are supported if the Map supports
+     * them.
+     *
+     * @param map cannot be null but may be empty
+     * @param <U> the key type and Tuple's first member type
+     * @param <V> the value type and Tuple's second member type
+     * @return a non-null but potentially empty Set view of the provided Map's entries
+     */
+    public static <U, V> Set<Tuple<U, V>> view(Map<U, V> map) {
+        return new MapTupleSet<>(map);
+    }
+
     /**
      * Return a List of tuples containing all pairs of items available from the provided Iterable.
      * <p>
@@ -233,18 +577,41 @@ public abstract class Tuples {
         return items.collect(collector());
     }
 
+    /**
+     * Return columns holding all pairs of items available from the provided Iterable. Every pair of adjacent items
+     * forms one tuple, as with {@code from}, but the tuples are stored column-wise instead of as Tuple instances.
+     * <p>
+     * If the input has an odd number of elements, the final tuple has a {@code null} second member.
+     *
+     * @param items cannot be null but may be empty
+     * @param <S>   the type of elements emitted by the Iterable's iterator and the type of the Tuples' members
+     * @return potentially empty columns
+     */
+    public static <S> TupleColumns<S, S> columnsFrom(Iterable<S> items) {
+        TupleColumns<S, S> columns = items instanceof Collection
+                ? new TupleColumns<>((((Collection<S>) items).size() + 1) / 2)
+                : new TupleColumns<>();
+        Iterator<S> iterator = items.iterator();
+        while (iterator.hasNext()) {
+            S first = iterator.next();
+            columns.add(first, iterator.hasNext() ? iterator.next() : null);
+        }
+        return columns;
+    }
+
     /**
      * Return a Collector to collect a stream of objects of type {@code S} into a list of tuples of type {@code S}.
      * <p>
      * Adjacent items in the Stream will be put into the same tuple. An odd number of items results in a final tuple
      * that has a {@code null} second member.
      * <p>
-     * This collector may be used in a parallel stream although it is not recommended.
+     * This collector scales linearly in a parallel stream: items are paired once all segments have been combined,
+     * and combining two segments takes constant time.
      *
      * @param <S> the type of elements emitted by the Stream and the type of the Tuples' members
      * @return a Collector which produces a List of Tuple instances
      */
-    public static <S> Collector<S, List<Tuple<S, S>>, List<Tuple<S, S>>> collector() {
+    public static <S> Collector<S, ?, List<Tuple<S, S>>> collector() {
         return collector(ArrayList<Tuple<S, S>>::new); // explicit type params needed for OpenJDK 8 compilation
     }
 
@@ -255,69 +622,22 @@ public abstract class Tuples {
      * Adjacent items in the Stream will be put into the same tuple. An odd number of items results in a final tuple
      * that has a {@code null} second member.
      * <p>
-     * This collector may be used in a parallel stream although it is not recommended.
+     * This collector scales linearly in a parallel stream: items are paired once all segments have been combined,
+     * and combining two segments takes constant time. The supplier is called once per collection.
      *
      * @param supplier supplies the List implementation that Tuples will be collected into
      * @param <S>      the type of elements emitted by the Stream and the type of the Tuples' members
      * @return a Collector which produces a List of Tuple instances
      */
-    public static <S> Collector<S, List<Tuple<S, S>>, List<Tuple<S, S>>> collector(Supplier<List<Tuple<S, S>>> supplier) {
+    public static <S> Collector<S, ?, List<Tuple<S, S>>> collector(Supplier<List<Tuple<S, S>>> supplier) {
         return Collector.of(
-                supplier,
-                Tuples::accumulateItem,
-                (list1, list2) -> combineTupleLists(list1, list2, supplier),
-                UnaryOperator.identity(),
-                Collector.Characteristics.IDENTITY_FINISH
+                PairingAccumulator<S>::new,
+                PairingAccumulator::add,
+                PairingAccumulator::combine,
+                accumulator -> accumulator.toTuples(supplier.get())
         );
     }
 
-    /*
-     * If parallelization resulted in the list containing a tuple that is partially constructed, we need to rebuild
-     * the tuples, e.g.
-     *
-     * [(1,2),(3,null)] + [(4,5),(6,7)] should combine into [(1,2),(3,4),(5,6),(7,null)]
-     */
-    private static <S> List<Tuple<S, S>> combineTupleLists(
-            List<Tuple<S, S>> tuples,
-            List<Tuple<S, S>> otherTuples,
-            Supplier<List<Tuple<S, S>>> supplier) {
-
-        List<Tuple<S, S>> combinedTuples = supplier.get();
-        accumulateTuplesItems(combinedTuples, tuples);
-        accumulateTuplesItems(combinedTuples, otherTuples);
-        return combinedTuples;
-    }
-
-    private static <S> void accumulateTuplesItems(List<Tuple<S, S>> accumulation, List<Tuple<S, S>> itemsInTuples) {
-        for (Tuple<S, S> tuple : itemsInTuples) {
-            accumulateItem(accumulation, tuple.getFirst());
-            if (!tuple.isPartial()) {
-                accumulateItem(accumulation, tuple.getSecond());
-            }
-        }
-    }
-
-    /*
-     * Append the item to the list of tuples, either by setting it as the second element of the final partial tuple
-     * in the list, or constructing a new partial tuple from the item and appending that to the list. Because this
-     * method is unaware if the provided item is the final item to be accumulated, this method will result in a
-     * partial tuple being the final element of the list if there are an odd number of items accumulated ultimately.
-     */
-    private static <S> void accumulateItem(List<Tuple<S, S>> tuples, S item) {
-        if (tuples.isEmpty()) {
-            tuples.add(Tuple.partial(item));
-        } else {
-            int lastIndex = tuples.size() - 1;
-            Tuple<S, S> tuple = tuples.get(lastIndex);
-            if (tuple.isPartial()) {
-                Tuple<S, S> combinedTuple = tuple.withSecond(item);
-                tuples.set(lastIndex, combinedTuple);
-            } else {
-                tuples.add(Tuple.partial(item));
-            }
-        }
-    }
-
     /**
      * Combines items within the single provided Tuple into a List of Tuples containing the individual items. The
      * size of the returned List is the size of the larger of the two members of the Tuple. If there is a difference in
@@ -371,7 +691,11 @@ public abstract class Tuples {
      * @return a non-null but potentially empty List
      */
     public static <U, V> List<Tuple<U, V>> zip(Iterable<U> firstItems, Iterable<V> secondItems) {
-        return zip(firstItems.iterator(), secondItems.iterator());
+        List<Tuple<U, V>> tuples = firstItems instanceof Collection && secondItems instanceof Collection
+                ? new ArrayList<>(Math.max(((Collection<U>) firstItems).size(), ((Collection<V>) secondItems).size()))
+                : new ArrayList<>();
+        zip(firstItems.iterator(), secondItems.iterator(), tuples);
+        return tuples;
     }
 
     /**
@@ -392,16 +716,287 @@ public abstract class Tuples {
      * @return a non-null but potentially empty List
      */
     public static <U, V> List<Tuple<U, V>> zip(Stream<U> firstItems, Stream<V> secondItems) {
-        return zip(firstItems.iterator(), secondItems.iterator());
+        List<Tuple<U, V>> tuples = new ArrayList<>();
+        zip(firstItems.iterator(), secondItems.iterator(), tuples);
+        return tuples;
+    }
+
+    /**
+     * Return a List view that pairs the items of the two argument lists by index without copying them. Tuples are
+     * created on demand, so only the elements actually read cost anything. The view cannot be modified but reflects
+     * changes made to the argument lists.
+     * <p>
+     * The size of the view is the size of the larger of the two arguments. If there is a difference in size between
+     * the two arguments, then the excess items will result in Tuples with one {@code null} value, as with {@code zip}.
+     * Positional access is as fast as that of the slower argument list; the view implements
+     * {@code java.util.RandomAccess} when both arguments do.
+     *
+     * @param firstItems  may not be null but can be empty
+     * @param secondItems may not be null but can be empty
+     * @param <U>         the type of the Tuples first members
+     * @param <V>         the type of the Tuples second members
+     * @return a non-null but potentially empty List view
+     */
+    public static <U, V> List<Tuple<U, V>> zipView(List<U> firstItems, List<V> secondItems) {
+        return ZippedList.of(
+                Objects.requireNonNull(firstItems, "First Items cannot be null."),
+                Objects.requireNonNull(secondItems, "Second Items cannot be null."));
+    }
+
+    /**
+     * Return an Iterable that lazily pairs the items emitted by the two argument Iterables. Each call to
+     * {@code iterator()} starts a new pass over both arguments and creates Tuples only as they are requested, so
+     * reading a prefix never touches the remaining items.
+     * <p>
+     * The iteration ends once both arguments are exhausted. If one argument emits more items than the other, then
+     * the excess items will result in Tuples with one {@code null} value, as with {@code zip}.
+     *
+     * @param firstItems  may not be null but can be empty
+     * @param secondItems may not be null but can be empty
+     * @param <U>         the type of the Tuples first members
+     * @param <V>         the type of the Tuples second members
+     * @return a non-null Iterable of Tuples
+     */
+    public static <U, V> Iterable<Tuple<U, V>> zipIterable(Iterable<U> firstItems, Iterable<V> secondItems) {
+        Objects.requireNonNull(firstItems, "First Items cannot be null.");
+        Objects.requireNonNull(secondItems, "Second Items cannot be null.");
+        return () -> new TupleZipper<>(firstItems.iterator(), secondItems.iterator());
+    }
+
+    /**
+     * Return a sequential Stream pairing the items of the two argument lists by index. No intermediate List is
+     * built; Tuples are created as the Stream is consumed.
+     * <p>
+     * When both lists implement {@code java.util.RandomAccess}, the Stream's Spliterator reports SIZED, SUBSIZED and
+     * ORDERED and splits by index, so a {@code parallel()} pipeline divides the work evenly across threads. The
+     * length of the Stream is the size of the larger argument; the excess items will result in Tuples with one
+     * {@code null} value, as with {@code zip}.
+     *
+     * @param firstItems  may not be null but can be empty
+     * @param secondItems may not be null but can be empty
+     * @param <U>         the type of the Tuples first members
+     * @param <V>         the type of the Tuples second members
+     * @return a non-null but potentially empty Stream
+     */
+    public static <U, V> Stream<Tuple<U, V>> zipStream(List<U> firstItems, List<V> secondItems) {
+        return StreamSupport.stream(zipView(firstItems, secondItems).spliterator(), false);
+    }
+
+    /**
+     * Return a sequential Stream pairing the items of the two argument arrays by index. No intermediate List is
+     * built; Tuples are created as the Stream is consumed.
+     * <p>
+     * The Stream's Spliterator reports SIZED, SUBSIZED and ORDERED and splits by index, so a {@code parallel()}
+     * pipeline divides the work evenly across threads. The length of the Stream is the length of the larger argument;
+     * the excess items will result in Tuples with one {@code null} value, as with {@code zip}.
+     *
+     * @param firstItems  may not be null but can be empty
+     * @param secondItems may not be null but can be empty
+     * @param <U>         the type of the Tuples first members
+     * @param <V>         the type of the Tuples second members
+     * @return a non-null but potentially empty Stream
+     */
+    public static <U, V> Stream<Tuple<U, V>> zipStream(U[] firstItems, V[] secondItems) {
+        Objects.requireNonNull(firstItems, "First Items cannot be null.");
+        Objects.requireNonNull(secondItems, "Second Items cannot be null.");
+        return StreamSupport.stream(new IndexedZipSpliterator<>(
+                i -> firstItems[i], firstItems.length,
+                i -> secondItems[i], secondItems.length), false);
+    }
+
+    /**
+     * Return a sequential Stream pairing the items emitted by the two argument Iterables in order. No intermediate
+     * List is built; Tuples are created as the Stream is consumed.
+     * <p>
+     * The Stream's Spliterator is SIZED when both arguments' Spliterators are. The length of the Stream is the number
+     * of items of the larger argument; the excess items will result in Tuples with one {@code null} value, as with
+     * {@code zip}.
+     *
+     * @param firstItems  may not be null but can be empty
+     * @param secondItems may not be null but can be empty
+     * @param <U>         the type of the Tuples first members
+     * @param <V>         the type of the Tuples second members
+     * @return a non-null but potentially empty Stream
+     */
+    public static <U, V> Stream<Tuple<U, V>> zipStream(Iterable<U> firstItems, Iterable<V> secondItems) {
+        return StreamSupport.stream(new ZipSpliterator<>(firstItems.spliterator(), secondItems.spliterator()), false);
+    }
+
+    /**
+     * Return a Stream pairing the items of the two argument Streams in encounter order. Neither argument is consumed
+     * until a terminal operation is called on the returned Stream, and closing it closes both arguments.
+     * <p>
+     * The returned Stream is parallel if either argument is, and its Spliterator is SIZED when both arguments' are.
+     * The length of the Stream is the number of items of the larger argument; the excess items will result in Tuples
+     * with one {@code null} value, as with {@code zip}.
+     *
+     * @param firstItems  may not be null but can be empty
+     * @param secondItems may not be null but can be empty
+     * @param <U>         the type of the Tuples first members
+     * @param <V>         the type of the Tuples second members
+     * @return a non-null but potentially empty Stream
+     */
+    public static <U, V> Stream<Tuple<U, V>> zipStream(Stream<U> firstItems, Stream<V> secondItems) {
+        boolean parallel = firstItems.isParallel() || secondItems.isParallel();
+        return StreamSupport.stream(new ZipSpliterator<>(firstItems.spliterator(), secondItems.spliterator()), parallel)
+                .onClose(() -> {
+                    try {
+                        firstItems.close();
+                    } finally {
+                        secondItems.close();
+                    }
+                });
+    }
+
+    /**
+     * Return a cursor pairing the items of the two arguments in iteration order, without creating a Tuple per pair.
+     * The number of pairs is the number of items of the larger argument; the excess items are paired with
+     * {@code null}, as with {@code zip}.
+     *
+     * @param firstItems  may not be null but can be empty
+     * @param secondItems may not be null but can be empty
+     * @param <U>         the type of the first members
+     * @param <V>         the type of the second members
+     * @return a cursor positioned before the first pair
+     */
+    public static <U, V> TupleCursor<U, V> zipCursor(Iterable<U> firstItems, Iterable<V> secondItems) {
+        return new TupleCursors.ZipIteratorCursor<>(firstItems.iterator(), secondItems.iterator());
+    }
+
+    /**
+     * Return a cursor pairing the items of the two argument Streams in encounter order, without creating a Tuple per
+     * pair. The Streams are consumed as the cursor advances, and are not closed by it. The number of pairs is the
+     * number of items of the larger argument; the excess items are paired with {@code null}, as with {@code zip}.
+     *
+     * @param firstItems  may not be null but can be empty
+     * @param secondItems may not be null but can be empty
+     * @param <U>         the type of the first members
+     * @param <V>         the type of the second members
+     * @return a cursor positioned before the first pair
+     */
+    public static <U, V> TupleCursor<U, V> zipCursor(Stream<U> firstItems, Stream<V> secondItems) {
+        return new TupleCursors.ZipSpliteratorCursor<>(firstItems.spliterator(), secondItems.spliterator());
+    }
+
+    /**
+     * Return a cursor over the entries of the Map, with each key as the first member and its value as the second,
+     * without creating a Tuple per entry. Null keys and values are supported.
+     *
+     * @param map cannot be null but may be empty
+     * @param <U> the key type and first member type
+     * @param <V> the value type and second member type
+     * @return a cursor positioned before the first entry
+     */
+    public static <U, V> TupleCursor<U, V> cursor(Map<? extends U, ? extends V> map) {
+        return new TupleCursors.MapCursor<>(map);
+    }
+
+    /**
+     * Combines the items from the first argument with the items into the second argument into columns of tuples. The
+     * number of tuples is the size of the larger of the two arguments. If there is a difference in size between the
+     * two arguments, then the excess items will result in tuples with one {@code null} value, as with {@code zip}.
+     *
+     * @param firstItems  may not be null but can be empty
+     * @param secondItems may not be null but can be empty
+     * @param <U>         the type of the Tuples first members
+     * @param <V>         the type of the Tuples second members
+     * @return non-null but potentially empty columns
+     */
+    public static <U, V> TupleColumns<U, V> zipColumns(U[] firstItems, V[] secondItems) {
+        return zipColumns(Arrays.asList(firstItems), Arrays.asList(secondItems));
+    }
+
+    /**
+     * Combines the items from the first argument with the items into the second argument into columns of tuples. The
+     * number of tuples is the size of the larger of the two arguments. If there is a difference in size between the
+     * two arguments, then the excess items will result in tuples with one {@code null} value, as with {@code zip}.
+     *
+     * @param firstItems  may not be null but can be empty
+     * @param secondItems may not be null but can be empty
+     * @param <U>         the type of the Tuples first members
+     * @param <V>         the type of the Tuples second members
+     * @return non-null but potentially empty columns
+     */
+    public static <U, V> TupleColumns<U, V> zipColumns(Iterable<U> firstItems, Iterable<V> secondItems) {
+        TupleColumns<U, V> columns = new TupleColumns<>();
+        if (firstItems instanceof Collection && secondItems instanceof Collection) {
+            columns.ensureCapacity(Math.max(((Collection<U>) firstItems).size(), ((Collection<V>) secondItems).size()));
+        }
+        TupleZipper<U, V> zipper = new TupleZipper<>(firstItems.iterator(), secondItems.iterator());
+        while (zipper.hasNext()) {
+            columns.add(zipper.nextFirst(), zipper.nextSecond());
+        }
+        return columns;
+    }
+
+    /**
+     * Combines the items from the first argument with the items into the second argument into a List of tuples. The
+     * size of the returned List is the size of the larger of the two arguments. If there is a difference in
+     * size between the two arguments, then the excess items are paired with {@code 0}, the primitive counterpart of
+     * the {@code null} padding used when zipping objects.
+     *
+     * @param firstItems  may not be null but can be empty
+     * @param secondItems may not be null but can be empty
+     * @return a non-null but potentially empty List
+     */
+    public static List<IntIntTuple> zip(int[] firstItems, int[] secondItems) {
+        int size = Math.max(firstItems.length, secondItems.length);
+        List<IntIntTuple> tuples = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            tuples.add(IntIntTuple.of(
+                    i < firstItems.length ? firstItems[i] : 0,
+                    i < secondItems.length ? secondItems[i] : 0));
+        }
+        return tuples;
+    }
+
+    /**
+     * Combines the items from the first argument with the items into the second argument into a List of tuples. The
+     * size of the returned List is the size of the larger of the two arguments. If there is a difference in
+     * size between the two arguments, then the excess items are paired with {@code 0}, the primitive counterpart of
+     * the {@code null} padding used when zipping objects.
+     *
+     * @param firstItems  may not be null but can be empty
+     * @param secondItems may not be null but can be empty
+     * @return a non-null but potentially empty List
+     */
+    public static List<LongLongTuple> zip(long[] firstItems, long[] secondItems) {
+        int size = Math.max(firstItems.length, secondItems.length);
+        List<LongLongTuple> tuples = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            tuples.add(LongLongTuple.of(
+                    i < firstItems.length ? firstItems[i] : 0L,
+                    i < secondItems.length ? secondItems[i] : 0L));
+        }
+        return tuples;
     }
 
-    private static <U, V> List<Tuple<U, V>> zip(Iterator<U> firstItems, Iterator<V> secondItems) {
+    /**
+     * Combines the items from the first argument with the items into the second argument into a List of tuples. The
+     * size of the returned List is the size of the larger of the two arguments. If there is a difference in
+     * size between the two arguments, then the excess items are paired with {@code 0.0}, the primitive counterpart of
+     * the {@code null} padding used when zipping objects.
+     *
+     * @param firstItems  may not be null but can be empty
+     * @param secondItems may not be null but can be empty
+     * @return a non-null but potentially empty List
+     */
+    public static List<DoubleDoubleTuple> zip(double[] firstItems, double[] secondItems) {
+        int size = Math.max(firstItems.length, secondItems.length);
+        List<DoubleDoubleTuple> tuples = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            tuples.add(DoubleDoubleTuple.of(
+                    i < firstItems.length ? firstItems[i] : 0.0,
+                    i < secondItems.length ? secondItems[i] : 0.0));
+        }
+        return tuples;
+    }
+
+    private static <U, V> void zip(Iterator<U> firstItems, Iterator<V> secondItems, List<Tuple<U, V>> tuples) {
         TupleZipper<U, V> zipper = new TupleZipper<>(firstItems, secondItems);
-        List<Tuple<U, V>> tuples = new LinkedList<>();
         while (zipper.hasNext()) {
             tuples.add(zipper.next());
         }
-        return tuples;
     }
 
     /**
@@ -417,14 +1012,21 @@ public abstract class Tuples {
      */
     @SafeVarargs
     public static <U, V> Tuple<List<U>, List<V>> unzip(Tuple<U, V>... tuples) {
-        return unzip(Arrays.stream(tuples));
+        List<U> first = new ArrayList<>(tuples.length);
+        List<V> second = new ArrayList<>(tuples.length);
+        for (Tuple<U, V> tuple : tuples) {
+            first.add(tuple.getFirst());
+            second.add(tuple.getSecond());
+        }
+        return Tuple.of(first, second);
     }
 
     /**
      * Extracts the individual items contained within the provided tuples and returns a single Tuple of those items.
      * The returned Tuple holds the items in a List that is ordered according to how the provided Tuples are ordered.
      * <p>
-     * Tuples containing {@code null} values are supported.
+     * Tuples containing {@code null} values are supported. If the argument is a Collection, the Lists are sized to
+     * hold its tuples up front.
      *
      * @param tuples a non-null Iterable of zero or more Tuples
      * @param <U>    the type of items in the returned Tuple's first member
@@ -432,14 +1034,16 @@ public abstract class Tuples {
      * @return a single Tuple whose members are Lists of the items found in the provided Tuples
      */
     public static <U, V> Tuple<List<U>, List<V>> unzip(Iterable<Tuple<U, V>> tuples) {
-        return unzip(tuples.iterator());
+        int expectedSize = tuples instanceof Collection ? ((Collection<?>) tuples).size() : -1;
+        return unzip(tuples.iterator(), expectedSize);
     }
 
     /**
      * Extracts the individual items contained within the provided tuples and returns a single Tuple of those items.
      * The returned Tuple holds the items in a List that is ordered according to how the provided Tuples are ordered.
      * <p>
-     * Tuples containing {@code null} values are supported.
+     * Tuples containing {@code null} values are supported. If the Stream knows its exact size, the Lists are sized to
+     * hold its tuples up front.
      * <p>
      * This method will call a terminal operation on the provided Stream.
      *
@@ -449,12 +1053,196 @@ public abstract class Tuples {
      * @return a single Tuple whose members are Lists of the items found in the provided Tuples
      */
     public static <U, V> Tuple<List<U>, List<V>> unzip(Stream<Tuple<U, V>> tuples) {
-        return unzip(tuples.iterator());
+        Spliterator<Tuple<U, V>> spliterator = tuples.spliterator();
+        long size = spliterator.getExactSizeIfKnown();
+        return unzip(Spliterators.iterator(spliterator), size <= Integer.MAX_VALUE ? (int) size : -1);
+    }
+
+    /**
+     * Extracts the individual items contained within the provided tuples and returns a single Tuple of those items,
+     * as {@code unzip} does. If the List supports fast random access, large Lists are unzipped in parallel in the
+     * common fork-join pool. The returned Lists are fixed-size, as if returned by {@code Arrays.asList}.
+     * <p>
+     * Tuples containing {@code null} values are supported.
+     *
+     * @param tuples a non-null List of zero or more Tuples, which must not be modified while this method runs
+     * @param <U>    the type of items in the returned Tuple's first member
+     * @param <V>    the type of items in the returned Tuple's second member
+     * @return a single Tuple whose members are fixed-size Lists of the items found in the provided Tuples
+     */
+    @SuppressWarnings("unchecked")
+    public static <U, V> Tuple<List<U>, List<V>> parallelUnzip(List<Tuple<U, V>> tuples) {
+        Object[] first = new Object[tuples.size()];
+        Object[] second = new Object[first.length];
+        if (tuples instanceof RandomAccess && first.length >= PARALLEL_UNZIP_THRESHOLD) {
+            IntStream.range(0, first.length).parallel().forEach(i -> {
+                Tuple<U, V> tuple = tuples.get(i);
+                first[i] = tuple.getFirst();
+                second[i] = tuple.getSecond();
+            });
+        } else {
+            int i = 0;
+            for (Tuple<U, V> tuple : tuples) {
+                first[i] = tuple.getFirst();
+                second[i++] = tuple.getSecond();
+            }
+        }
+        return Tuple.of((List<U>) Arrays.asList(first), (List<V>) Arrays.asList(second));
     }
 
-    private static <U, V> Tuple<List<U>, List<V>> unzip(Iterator<Tuple<U, V>> tuples) {
-        List<U> first = new LinkedList<>();
-        List<V> second = new LinkedList<>();
+    /**
+     * Extracts the individual items contained within the provided tuples into columns, the column-wise counterpart
+     * of the Tuple of Lists returned by {@code unzip}. The columns are ordered according to how the provided Tuples
+     * are ordered.
+     * <p>
+     * Tuples containing {@code null} values are supported.
+     *
+     * @param tuples a non-null Iterable of zero or more Tuples
+     * @param <U>    the type of the Tuples first members
+     * @param <V>    the type of the Tuples second members
+     * @return columns holding the members of the provided Tuples
+     */
+    public static <U, V> TupleColumns<U, V> unzipColumns(Iterable<Tuple<U, V>> tuples) {
+        TupleColumns<U, V> columns = new TupleColumns<>();
+        columns.addAll(tuples);
+        return columns;
+    }
+
+    /**
+     * Extracts the individual members of the provided tuples into two arrays and returns a single Tuple of those
+     * arrays. The arrays are ordered according to how the provided tuples are ordered.
+     *
+     * @param tuples a non-null Collection of zero or more tuples
+     * @return a single Tuple whose members are arrays of the first and second members of the provided tuples
+     */
+    public static Tuple<int[], int[]> unzipInts(Collection<IntIntTuple> tuples) {
+        int[] first = new int[tuples.size()];
+        int[] second = new int[first.length];
+        int i = 0;
+        for (IntIntTuple tuple : tuples) {
+            first[i] = tuple.getFirst();
+            second[i++] = tuple.getSecond();
+        }
+        return Tuple.of(first, second);
+    }
+
+    /**
+     * Extracts the individual members of the provided tuples into two arrays and returns a single Tuple of those
+     * arrays. The arrays are ordered according to how the provided tuples are ordered.
+     *
+     * @param tuples a non-null Collection of zero or more tuples
+     * @return a single Tuple whose members are arrays of the first and second members of the provided tuples
+     */
+    public static Tuple<long[], long[]> unzipLongs(Collection<LongLongTuple> tuples) {
+        long[] first = new long[tuples.size()];
+        long[] second = new long[first.length];
+        int i = 0;
+        for (LongLongTuple tuple : tuples) {
+            first[i] = tuple.getFirst();
+            second[i++] = tuple.getSecond();
+        }
+        return Tuple.of(first, second);
+    }
+
+    /**
+     * Extracts the individual members of the provided tuples into two arrays and returns a single Tuple of those
+     * arrays. The arrays are ordered according to how the provided tuples are ordered.
+     *
+     * @param tuples a non-null Collection of zero or more tuples
+     * @return a single Tuple whose members are arrays of the first and second members of the provided tuples
+     */
+    public static Tuple<double[], double[]> unzipDoubles(Collection<DoubleDoubleTuple> tuples) {
+        double[] first = new double[tuples.size()];
+        double[] second = new double[first.length];
+        int i = 0;
+        for (DoubleDoubleTuple tuple : tuples) {
+            first[i] = tuple.getFirst();
+            second[i++] = tuple.getSecond();
+        }
+        return Tuple.of(first, second);
+    }
+
+    /**
+     * Extracts the members of the provided tuples into two {@code int} arrays, converting each member with the mapper
+     * for its side, and returns a single Tuple of those arrays. The arrays are ordered according to how the provided
+     * tuples are ordered.
+     *
+     * @param tuples       a non-null Collection of zero or more Tuples
+     * @param firstMapper  converts the first members; may not be null
+     * @param secondMapper converts the second members; may not be null
+     * @param <U>          the type of the Tuples first members
+     * @param <V>          the type of the Tuples second members
+     * @return a single Tuple whose members are arrays of the converted first and second members
+     */
+    public static <U, V> Tuple<int[], int[]> unzipToInts(Collection<Tuple<U, V>> tuples,
+                                                         ToIntFunction<? super U> firstMapper,
+                                                         ToIntFunction<? super V> secondMapper) {
+        int[] first = new int[tuples.size()];
+        int[] second = new int[first.length];
+        int i = 0;
+        for (Tuple<U, V> tuple : tuples) {
+            first[i] = firstMapper.applyAsInt(tuple.getFirst());
+            second[i++] = secondMapper.applyAsInt(tuple.getSecond());
+        }
+        return Tuple.of(first, second);
+    }
+
+    /**
+     * Extracts the members of the provided tuples into two {@code long} arrays, converting each member with the
+     * mapper for its side, and returns a single Tuple of those arrays. The arrays are ordered according to how the
+     * provided tuples are ordered.
+     *
+     * @param tuples       a non-null Collection of zero or more Tuples
+     * @param firstMapper  converts the first members; may not be null
+     * @param secondMapper converts the second members; may not be null
+     * @param <U>          the type of the Tuples first members
+     * @param <V>          the type of the Tuples second members
+     * @return a single Tuple whose members are arrays of the converted first and second members
+     */
+    public static <U, V> Tuple<long[], long[]> unzipToLongs(Collection<Tuple<U, V>> tuples,
+                                                            ToLongFunction<? super U> firstMapper,
+                                                            ToLongFunction<? super V> secondMapper) {
+        long[] first = new long[tuples.size()];
+        long[] second = new long[first.length];
+        int i = 0;
+        for (Tuple<U, V> tuple : tuples) {
+            first[i] = firstMapper.applyAsLong(tuple.getFirst());
+            second[i++] = secondMapper.applyAsLong(tuple.getSecond());
+        }
+        return Tuple.of(first, second);
+    }
+
+    /**
+     * Extracts the members of the provided tuples into two {@code double} arrays, converting each member with the
+     * mapper for its side, and returns a single Tuple of those arrays. The arrays are ordered according to how the
+     * provided tuples are ordered.
+     *
+     * @param tuples       a non-null Collection of zero or more Tuples
+     * @param firstMapper  converts the first members; may not be null
+     * @param secondMapper converts the second members; may not be null
+     * @param <U>          the type of the Tuples first members
+     * @param <V>          the type of the Tuples second members
+     * @return a single Tuple whose members are arrays of the converted first and second members
+     */
+    public static <U, V> Tuple<double[], double[]> unzipToDoubles(Collection<Tuple<U, V>> tuples,
+                                                                  ToDoubleFunction<? super U> firstMapper,
+                                                                  ToDoubleFunction<? super V> secondMapper) {
+        double[] first = new double[tuples.size()];
+        double[] second = new double[first.length];
+        int i = 0;
+        for (Tuple<U, V> tuple : tuples) {
+            first[i] = firstMapper.applyAsDouble(tuple.getFirst());
+            second[i++] = secondMapper.applyAsDouble(tuple.getSecond());
+        }
+        return Tuple.of(first, second);
+    }
+
+    /*
+     * A negative expected size means the number of tuples is unknown.
+     */
+    private static <U, V> Tuple<List<U>, List<V>> unzip(Iterator<Tuple<U, V>> tuples, int expectedSize) {
+        List<U> first = expectedSize < 0 ? new ArrayList<>() : new ArrayList<>(expectedSize);
+        List<V> second = expectedSize < 0 ? new ArrayList<>() : new ArrayList<>(expectedSize);
         while (tuples.hasNext()) {
             Tuple<U, V> tuple = tuples.next();
             first.add(tuple.getFirst());
@@ -463,7 +1251,352 @@ public abstract class Tuples {
         return Tuple.of(first, second);
     }
 
-    private static class TupleZipper<U, V> implements Iterator<Tuple<U, V>> {
+    /**
+     * Return a Stream joining the second members of the argument Streams' tuples that share a first member, in the
+     * manner of an SQL inner join. Every pair of matching tuples yields one Tuple of their second members. As with
+     * {@code mapAll}, {@code null} first members match each other.
+     * <p>
+     * A hash table is built from one argument when a terminal operation is called on the returned Stream, and the
+     * other argument is then streamed lazily, probing the table. When the sizes of both arguments are known, the table
+     * is built from the smaller one and the Tuples are emitted in the order of the larger; otherwise the table is
+     * built from the right argument. The returned Stream is parallel if either argument is, and closing it closes both
+     * arguments.
+     *
+     * @param left  may not be null but can be empty
+     * @param right may not be null but can be empty
+     * @param <K>   the type of the joined first members
+     * @param <A>   the type of the left tuples' second members
+     * @param <B>   the type of the right tuples' second members
+     * @return a non-null but potentially empty Stream
+     */
+    public static <K, A, B> Stream<Tuple<A, B>> join(Stream<Tuple<K, A>> left, Stream<Tuple<K, B>> right) {
+        return HashJoin.join(left, right, HashJoin.Kind.INNER);
+    }
+
+    /**
+     * Return a Stream joining the second members of the argument Streams' tuples that share a first member, in the
+     * manner of an SQL left outer join. This is identical to {@code join}, except that each left tuple without a
+     * matching right tuple yields a Tuple with a {@code null} second member. The table is always built from the right
+     * argument, and the Tuples are emitted in the order of the left.
+     *
+     * @param left  may not be null but can be empty
+     * @param right may not be null but can be empty
+     * @param <K>   the type of the joined first members
+     * @param <A>   the type of the left tuples' second members
+     * @param <B>   the type of the right tuples' second members
+     * @return a non-null but potentially empty Stream
+     */
+    public static <K, A, B> Stream<Tuple<A, B>> leftJoin(Stream<Tuple<K, A>> left, Stream<Tuple<K, B>> right) {
+        return HashJoin.join(left, right, HashJoin.Kind.LEFT);
+    }
+
+    /**
+     * Return a Stream joining the second members of the argument Streams' tuples that share a first member, in the
+     * manner of an SQL full outer join. This is identical to {@code leftJoin}, except that each right tuple without a
+     * matching left tuple additionally yields a Tuple with a {@code null} first member. Those Tuples come last, once
+     * the left argument is exhausted, so the returned Stream is evaluated sequentially.
+     *
+     * @param left  may not be null but can be empty
+     * @param right may not be null but can be empty
+     * @param <K>   the type of the joined first members
+     * @param <A>   the type of the left tuples' second members
+     * @param <B>   the type of the right tuples' second members
+     * @return a non-null but potentially empty Stream
+     */
+    public static <K, A, B> Stream<Tuple<A, B>> fullJoin(Stream<Tuple<K, A>> left, Stream<Tuple<K, B>> right) {
+        return HashJoin.join(left, right, HashJoin.Kind.FULL);
+    }
+
+    /**
+     * Return an Iterator joining the second members of the argument iterators' tuples that share a first member, in
+     * the manner of an SQL inner join. Both arguments must be sorted by first member in natural order with
+     * {@code null} first, as by {@code Tuple.compareTo}. They are advanced in lockstep as the returned Iterator is,
+     * buffering only the right tuples sharing the current first member, so that every pair of matching tuples yields
+     * one Tuple of their second members.
+     *
+     * @param left  may not be null but can be empty
+     * @param right may not be null but can be empty
+     * @param <K>   the type of the joined first members
+     * @param <A>   the type of the left tuples' second members
+     * @param <B>   the type of the right tuples' second members
+     * @return a non-null but potentially empty Iterator
+     * @throws IllegalStateException from the Iterator's methods if either argument is found not to be sorted
+     */
+    public static <K extends Comparable<? super K>, A, B> Iterator<Tuple<A, B>> mergeJoin(
+            Iterator<Tuple<K, A>> left, Iterator<Tuple<K, B>> right) {
+        return mergeJoin(left, right, Comparator.nullsFirst(Comparator.<K>naturalOrder()));
+    }
+
+    /**
+     * Return an Iterator joining the second members of the argument iterators' tuples that share a first member, as
+     * {@code mergeJoin} does, except that the arguments are sorted by first member according to the given Comparator.
+     *
+     * @param left       may not be null but can be empty
+     * @param right      may not be null but can be empty
+     * @param comparator the order of both arguments' first members; must handle {@code null} if they may be null
+     * @param <K>        the type of the joined first members
+     * @param <A>        the type of the left tuples' second members
+     * @param <B>        the type of the right tuples' second members
+     * @return a non-null but potentially empty Iterator
+     * @throws IllegalStateException from the Iterator's methods if either argument is found not to be sorted
+     */
+    public static <K, A, B> Iterator<Tuple<A, B>> mergeJoin(Iterator<Tuple<K, A>> left, Iterator<Tuple<K, B>> right,
+                                                            Comparator<? super K> comparator) {
+        return new MergeJoinIterator<>(left, right, comparator);
+    }
+
+    /**
+     * Return a sequential Stream joining the second members of the argument Streams' tuples that share a first member,
+     * as {@code mergeJoin} of iterators does. Neither argument is consumed until a terminal operation is called on the
+     * returned Stream, and closing it closes both arguments.
+     *
+     * @param left  may not be null but can be empty
+     * @param right may not be null but can be empty
+     * @param <K>   the type of the joined first members
+     * @param <A>   the type of the left tuples' second members
+     * @param <B>   the type of the right tuples' second members
+     * @return a non-null but potentially empty Stream
+     * @throws IllegalStateException from the terminal operation if either argument is found not to be sorted
+     */
+    public static <K extends Comparable<? super K>, A, B> Stream<Tuple<A, B>> mergeJoin(
+            Stream<Tuple<K, A>> left, Stream<Tuple<K, B>> right) {
+        return mergeJoin(left, right, Comparator.nullsFirst(Comparator.<K>naturalOrder()));
+    }
+
+    /**
+     * Return a sequential Stream joining the second members of the argument Streams' tuples that share a first member,
+     * as {@code mergeJoin} of iterators does, except that the arguments are sorted by first member according to the
+     * given Comparator.
+     *
+     * @param left       may not be null but can be empty
+     * @param right      may not be null but can be empty
+     * @param comparator the order of both arguments' first members; must handle {@code null} if they may be null
+     * @param <K>        the type of the joined first members
+     * @param <A>        the type of the left tuples' second members
+     * @param <B>        the type of the right tuples' second members
+     * @return a non-null but potentially empty Stream
+     * @throws IllegalStateException from the terminal operation if either argument is found not to be sorted
+     */
+    public static <K, A, B> Stream<Tuple<A, B>> mergeJoin(Stream<Tuple<K, A>> left, Stream<Tuple<K, B>> right,
+                                                          Comparator<? super K> comparator) {
+        Objects.requireNonNull(comparator, "Comparator cannot be null.");
+        Supplier<Spliterator<Tuple<A, B>>> joined = () -> Spliterators.spliteratorUnknownSize(
+                mergeJoin(left.iterator(), right.iterator(), comparator), Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(joined, Spliterator.ORDERED | Spliterator.NONNULL, false)
+                .onClose(() -> {
+                    try {
+                        left.close();
+                    } finally {
+                        right.close();
+                    }
+                });
+    }
+
+    /**
+     * Sort the pairs of elements at equal indexes of the two arrays in place, ordering them by first element and then
+     * by second element, as {@code IntIntTuple.compareTo} orders the corresponding tuples. The pairs are LSD
+     * radix sorted, so sorting takes time linear in the number of pairs.
+     *
+     * @param firstItems  the first elements; may not be null but can be empty
+     * @param secondItems the second elements; may not be null but must have the length of the first elements
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public static void sort(int[] firstItems, int[] secondItems) {
+        checkSameLength(firstItems.length, secondItems.length);
+        PairSorts.sort(firstItems, secondItems);
+    }
+
+    /**
+     * Sort the pairs of elements at equal indexes of the two arrays in place, as {@code sort} does, but in parallel.
+     * Above a size threshold, chunks of the arrays are sorted in the common fork-join pool and then merged.
+     *
+     * @param firstItems  the first elements; may not be null but can be empty
+     * @param secondItems the second elements; may not be null but must have the length of the first elements
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public static void parallelSort(int[] firstItems, int[] secondItems) {
+        checkSameLength(firstItems.length, secondItems.length);
+        PairSorts.parallelSort(firstItems, secondItems);
+    }
+
+    /**
+     * Sort the pairs of elements at equal indexes of the two arrays in place, ordering them by first element and then
+     * by second element, as {@code LongLongTuple.compareTo} orders the corresponding tuples. The pairs are LSD
+     * radix sorted, so sorting takes time linear in the number of pairs.
+     *
+     * @param firstItems  the first elements; may not be null but can be empty
+     * @param secondItems the second elements; may not be null but must have the length of the first elements
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public static void sort(long[] firstItems, long[] secondItems) {
+        checkSameLength(firstItems.length, secondItems.length);
+        PairSorts.sort(firstItems, secondItems);
+    }
+
+    /**
+     * Sort the pairs of elements at equal indexes of the two arrays in place, as {@code sort} does, but in parallel.
+     * Above a size threshold, chunks of the arrays are sorted in the common fork-join pool and then merged.
+     *
+     * @param firstItems  the first elements; may not be null but can be empty
+     * @param secondItems the second elements; may not be null but must have the length of the first elements
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public static void parallelSort(long[] firstItems, long[] secondItems) {
+        checkSameLength(firstItems.length, secondItems.length);
+        PairSorts.parallelSort(firstItems, secondItems);
+    }
+
+    private static void checkSameLength(int firstLength, int secondLength) {
+        if (firstLength != secondLength) {
+            throw new IllegalArgumentException("Arrays differ in length: " + firstLength + " and " + secondLength);
+        }
+    }
+
+    /**
+     * Where {@code null} members are placed by the natural order comparators of {@code Tuples}.
+     */
+    public enum NullOrder {
+        /**
+         * {@code null} precedes every non-null member, as in {@code Tuple.compareTo}.
+         */
+        FIRST,
+        /**
+         * {@code null} follows every non-null member.
+         */
+        LAST
+    }
+
+    /**
+     * Return a Comparator ordering tuples by their first members according to the first Comparator, and tuples with
+     * equal first members by their second members according to the second Comparator. Unlike {@code Tuple.compareTo},
+     * no member is cast to {@code Comparable}.
+     *
+     * @param firstComparator  orders the first members; must handle {@code null} if they may be null
+     * @param secondComparator orders the second members; must handle {@code null} if they may be null
+     * @param <U>              the type of the first members
+     * @param <V>              the type of the second members
+     * @return a Comparator of tuples
+     */
+    public static <U, V> Comparator<Tuple<U, V>> comparator(Comparator<? super U> firstComparator,
+                                                            Comparator<? super V> secondComparator) {
+        Objects.requireNonNull(firstComparator, "First comparator cannot be null.");
+        Objects.requireNonNull(secondComparator, "Second comparator cannot be null.");
+        return (tuple, other) -> {
+            int firstComparison = firstComparator.compare(tuple.getFirst(), other.getFirst());
+            return firstComparison != 0 ? firstComparison
+                    : secondComparator.compare(tuple.getSecond(), other.getSecond());
+        };
+    }
+
+    /**
+     * Return a Comparator ordering tuples as {@code Tuple.compareTo} does: by first member and then by second member,
+     * in natural order with {@code null} first. Member types are checked when compiling rather than when comparing.
+     *
+     * @param <U> the type of the first members
+     * @param <V> the type of the second members
+     * @return a Comparator of tuples
+     */
+    public static <U extends Comparable<? super U>, V extends Comparable<? super V>>
+    Comparator<Tuple<U, V>> naturalOrder() {
+        return naturalOrder(NullOrder.FIRST);
+    }
+
+    /**
+     * Return a Comparator ordering tuples by first member and then by second member, in natural order with
+     * {@code null} placed as given.
+     *
+     * @param nullOrder where {@code null} members are placed
+     * @param <U>       the type of the first members
+     * @param <V>       the type of the second members
+     * @return a Comparator of tuples
+     */
+    public static <U extends Comparable<? super U>, V extends Comparable<? super V>>
+    Comparator<Tuple<U, V>> naturalOrder(NullOrder nullOrder) {
+        int nullComparison = nullOrder == NullOrder.FIRST ? -1 : 1;
+        return (tuple, other) -> {
+            int firstComparison = compareNatural(tuple.getFirst(), other.getFirst(), nullComparison);
+            return firstComparison != 0 ? firstComparison
+                    : compareNatural(tuple.getSecond(), other.getSecond(), nullComparison);
+        };
+    }
+
+    private static <T extends Comparable<? super T>> int compareNatural(T value, T otherValue, int nullComparison) {
+        if (value == null) {
+            return otherValue == null ? 0 : nullComparison;
+        } else if (otherValue == null) {
+            return -nullComparison;
+        }
+        return value.compareTo(otherValue);
+    }
+
+    /**
+     * Return a Comparator ordering tuples by the {@code int} keys extracted from their first members, and tuples with
+     * equal first keys by the {@code int} keys extracted from their second members. No key is boxed.
+     *
+     * @param firstKey  extracts the keys of the first members; must handle {@code null} if they may be null
+     * @param secondKey extracts the keys of the second members; must handle {@code null} if they may be null
+     * @param <U>       the type of the first members
+     * @param <V>       the type of the second members
+     * @return a Comparator of tuples
+     */
+    public static <U, V> Comparator<Tuple<U, V>> comparingInt(ToIntFunction<? super U> firstKey,
+                                                              ToIntFunction<? super V> secondKey) {
+        Objects.requireNonNull(firstKey, "First key cannot be null.");
+        Objects.requireNonNull(secondKey, "Second key cannot be null.");
+        return (tuple, other) -> {
+            int firstComparison = Integer.compare(firstKey.applyAsInt(tuple.getFirst()),
+                    firstKey.applyAsInt(other.getFirst()));
+            return firstComparison != 0 ? firstComparison
+                    : Integer.compare(secondKey.applyAsInt(tuple.getSecond()), secondKey.applyAsInt(other.getSecond()));
+        };
+    }
+
+    /**
+     * Return a Comparator ordering tuples by the {@code long} keys extracted from their first members, and tuples with
+     * equal first keys by the {@code long} keys extracted from their second members. No key is boxed.
+     *
+     * @param firstKey  extracts the keys of the first members; must handle {@code null} if they may be null
+     * @param secondKey extracts the keys of the second members; must handle {@code null} if they may be null
+     * @param <U>       the type of the first members
+     * @param <V>       the type of the second members
+     * @return a Comparator of tuples
+     */
+    public static <U, V> Comparator<Tuple<U, V>> comparingLong(ToLongFunction<? super U> firstKey,
+                                                               ToLongFunction<? super V> secondKey) {
+        Objects.requireNonNull(firstKey, "First key cannot be null.");
+        Objects.requireNonNull(secondKey, "Second key cannot be null.");
+        return (tuple, other) -> {
+            int firstComparison = Long.compare(firstKey.applyAsLong(tuple.getFirst()),
+                    firstKey.applyAsLong(other.getFirst()));
+            return firstComparison != 0 ? firstComparison
+                    : Long.compare(secondKey.applyAsLong(tuple.getSecond()), secondKey.applyAsLong(other.getSecond()));
+        };
+    }
+
+    /**
+     * Return a Comparator ordering tuples by the {@code double} keys extracted from their first members, and tuples
+     * with equal first keys by the {@code double} keys extracted from their second members, as {@code Double.compare}
+     * orders them. No key is boxed.
+     *
+     * @param firstKey  extracts the keys of the first members; must handle {@code null} if they may be null
+     * @param secondKey extracts the keys of the second members; must handle {@code null} if they may be null
+     * @param <U>       the type of the first members
+     * @param <V>       the type of the second members
+     * @return a Comparator of tuples
+     */
+    public static <U, V> Comparator<Tuple<U, V>> comparingDouble(ToDoubleFunction<? super U> firstKey,
+                                                                 ToDoubleFunction<? super V> secondKey) {
+        Objects.requireNonNull(firstKey, "First key cannot be null.");
+        Objects.requireNonNull(secondKey, "Second key cannot be null.");
+        return (tuple, other) -> {
+            int firstComparison = Double.compare(firstKey.applyAsDouble(tuple.getFirst()),
+                    firstKey.applyAsDouble(other.getFirst()));
+            return firstComparison != 0 ? firstComparison : Double.compare(
+                    secondKey.applyAsDouble(tuple.getSecond()), secondKey.applyAsDouble(other.getSecond()));
+        };
+    }
+
+    static class TupleZipper<U, V> implements Iterator<Tuple<U, V>> {
 
         private final Iterator<U> firstIterator;
         private final Iterator<V> secondIterator;
@@ -492,6 +1625,9 @@ public abstract class Tuples {
 
         @Override
         public Tuple<U, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
             return Tuple.of(nextFirst(), nextSecond());
         }
     }
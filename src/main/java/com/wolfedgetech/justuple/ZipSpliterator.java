@@ -0,0 +1,75 @@
+package com.wolfedgetech.justuple;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A Spliterator pairing the items of two arbitrary Spliterators in encounter order. Items past the end of the
+ * shorter source are {@code null}.
+ * <p>
+ * Two independent sources cannot be split at the same position, so splitting falls back to buffering a batch of
+ * tuples, as {@code Spliterators.AbstractSpliterator} does. The zip is reported as SIZED only when both sources are.
+ *
+ * @param <U> the type of the tuples' first members
+ * @param <V> the type of the tuples' second members
+ */
+class ZipSpliterator<U, V> extends Spliterators.AbstractSpliterator<Tuple<U, V>> {
+
+    private final Spliterator<U> firstItems;
+    private final Spliterator<V> secondItems;
+    private final Holder<U> first = new Holder<>();
+    private final Holder<V> second = new Holder<>();
+
+    ZipSpliterator(Spliterator<U> firstItems, Spliterator<V> secondItems) {
+        super(estimateSize(firstItems, secondItems), characteristics(firstItems, secondItems));
+        this.firstItems = firstItems;
+        this.secondItems = secondItems;
+    }
+
+    private static long estimateSize(Spliterator<?> firstItems, Spliterator<?> secondItems) {
+        return Math.max(firstItems.estimateSize(), secondItems.estimateSize());
+    }
+
+    private static int characteristics(Spliterator<?> firstItems, Spliterator<?> secondItems) {
+        int shared = firstItems.characteristics() & secondItems.characteristics();
+        return NONNULL | (shared & (ORDERED | SIZED));
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Tuple<U, V>> action) {
+        boolean advancedFirst = firstItems.tryAdvance(first);
+        boolean advancedSecond = secondItems.tryAdvance(second);
+        if (!advancedFirst && !advancedSecond) {
+            return false;
+        }
+        action.accept(Tuple.of(first.take(advancedFirst), second.take(advancedSecond)));
+        return true;
+    }
+
+    /*
+     * The sources keep track of what remains, which also accounts for tuples handed out by batch splits.
+     */
+    @Override
+    public long estimateSize() {
+        return estimateSize(firstItems, secondItems);
+    }
+
+    /*
+     * Receives one item from a source; reused for every advance to avoid allocating a capturing lambda.
+     */
+    private static class Holder<T> implements Consumer<T> {
+        private T item;
+
+        @Override
+        public void accept(T item) {
+            this.item = item;
+        }
+
+        T take(boolean advanced) {
+            T taken = advanced ? item : null;
+            item = null;
+            return taken;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.wolfedgetech.justuple;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+/**
+ * An unmodifiable List view pairing the items of two backing lists by index. Tuples are created on demand and the
+ * view reflects later changes to the backing lists. The size is that of the larger backing list, with the excess
+ * positions of the smaller list paired as {@code null}.
+ *
+ * @param <U> the type of the tuples' first members
+ * @param <V> the type of the tuples' second members
+ */
+class ZippedList<U, V> extends AbstractList<Tuple<U, V>> {
+
+    private final List<U> firstItems;
+    private final List<V> secondItems;
+
+    private ZippedList(List<U> firstItems, List<V> secondItems) {
+        this.firstItems = firstItems;
+        this.secondItems = secondItems;
+    }
+
+    /*
+     * Only advertise RandomAccess when positional access to both backing lists is constant time.
+     */
+    static <U, V> List<Tuple<U, V>> of(List<U> firstItems, List<V> secondItems) {
+        if (firstItems instanceof RandomAccess && secondItems instanceof RandomAccess) {
+            return new RandomAccessZippedList<>(firstItems, secondItems);
+        }
+        return new ZippedList<>(firstItems, secondItems);
+    }
+
+    @Override
+    public int size() {
+        return Math.max(firstItems.size(), secondItems.size());
+    }
+
+    @Override
+    public Tuple<U, V> get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index + " is outside range of 0 to " + size() + " exclusive.");
+        }
+        return Tuple.of(
+                index < firstItems.size() ? firstItems.get(index) : null,
+                index < secondItems.size() ? secondItems.get(index) : null);
+    }
+
+    /*
+     * Walk the backing lists with their own iterators so that iterating over linked lists stays linear.
+     */
+    @Override
+    public Iterator<Tuple<U, V>> iterator() {
+        return new Tuples.TupleZipper<>(firstItems.iterator(), secondItems.iterator());
+    }
+
+    @Override
+    public Spliterator<Tuple<U, V>> spliterator() {
+        return new ZipSpliterator<>(firstItems.spliterator(), secondItems.spliterator());
+    }
+
+    private static class RandomAccessZippedList<U, V> extends ZippedList<U, V> implements RandomAccess {
+        RandomAccessZippedList(List<U> firstItems, List<V> secondItems) {
+            super(firstItems, secondItems);
+        }
+
+        /*
+         * Split by index; the default List spliterator of Java 8 only splits by copying batches.
+         */
+        @Override
+        public Spliterator<Tuple<U, V>> spliterator() {
+            List<U> firstItems = super.firstItems;
+            List<V> secondItems = super.secondItems;
+            return new IndexedZipSpliterator<>(
+                    firstItems::get, firstItems.size(),
+                    secondItems::get, secondItems.size());
+        }
+    }
+}
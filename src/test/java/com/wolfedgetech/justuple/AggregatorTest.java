@@ -0,0 +1,83 @@
+package com.wolfedgetech.justuple;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AggregatorTest {
+
+    @Test
+    void count_counts_null_values_too() {
+        assertThat(aggregate(Aggregator.count(), "a", null, "b")).isEqualTo(3L);
+        assertThat(aggregate(Aggregator.count())).isEqualTo(0L);
+    }
+
+    @Test
+    void summing_aggregators_sum_mapped_values() {
+        assertThat(aggregate(Aggregator.summingLong(Integer::longValue), 1, 2, 3)).isEqualTo(6L);
+        assertThat(aggregate(Aggregator.summingDouble(String::length), "a", "bc")).isEqualTo(3.0);
+    }
+
+    @Test
+    void min_and_max_ignore_null_values() {
+        assertThat(aggregate(Aggregator.min(), 3, null, 1, 2)).isEqualTo(1);
+        assertThat(aggregate(Aggregator.max(), 3, null, 1, 2)).isEqualTo(3);
+        assertThat(aggregate(Aggregator.<Integer>min(), (Integer) null)).isNull();
+    }
+
+    @Test
+    void min_and_max_select_the_first_of_equal_values() {
+        Comparator<String> byLength = Comparator.comparingInt(String::length);
+
+        assertThat(aggregate(Aggregator.min(byLength), "ccc", "a", "b")).isEqualTo("a");
+        assertThat(aggregate(Aggregator.max(byLength), "a", "bb", "cc")).isEqualTo("bb");
+    }
+
+    @Test
+    void first_selects_the_first_value_even_if_null() {
+        assertThat(aggregate(Aggregator.first(), "a", "b")).isEqualTo("a");
+        assertThat(aggregate(Aggregator.first(), null, "b")).isNull();
+    }
+
+    @Test
+    void toList_lists_values_in_order() {
+        assertThat(aggregate(Aggregator.toList(), "a", null, "a")).isEqualTo(Arrays.asList("a", null, "a"));
+    }
+
+    @Test
+    void combine_preserves_encounter_order() {
+        assertThat(combine(Aggregator.first(), Collections.emptyList(), Arrays.asList("b", "c"))).isEqualTo("b");
+        assertThat(combine(Aggregator.first(), Arrays.asList("a"), Arrays.asList("b"))).isEqualTo("a");
+        assertThat(combine(Aggregator.min(), Arrays.asList(2, 1), Arrays.asList(1, 0))).isEqualTo(0);
+        assertThat(combine(Aggregator.toList(), Arrays.asList(1), Arrays.asList(2))).isEqualTo(Arrays.asList(1, 2));
+        assertThat(combine(Aggregator.count(), Arrays.asList(1), Arrays.asList(2, 3))).isEqualTo(3L);
+    }
+
+    @Test
+    void collector_can_be_adapted() {
+        assertThat(aggregate(Aggregator.of(Collectors.joining("+")), "a", "b")).isEqualTo("a+b");
+    }
+
+    @SafeVarargs
+    private static <V, A, R> R aggregate(Aggregator<V, A, R> aggregator, V... values) {
+        A container = aggregator.create();
+        for (V value : values) {
+            aggregator.accumulate(container, value);
+        }
+        return aggregator.finish(container);
+    }
+
+    private static <V, A, R> R combine(Aggregator<V, A, R> aggregator, List<V> values, List<V> laterValues) {
+        A container = aggregator.create();
+        values.forEach(value -> aggregator.accumulate(container, value));
+        A laterContainer = aggregator.create();
+        laterValues.forEach(value -> aggregator.accumulate(laterContainer, value));
+        return aggregator.finish(aggregator.combine(container, laterContainer));
+    }
+}
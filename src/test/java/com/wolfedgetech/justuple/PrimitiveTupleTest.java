@@ -0,0 +1,127 @@
+package com.wolfedgetech.justuple;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PrimitiveTupleTest {
+
+    @Test
+    void of_holds_primitive_members() {
+        IntIntTuple tuple = IntIntTuple.of(1, 2);
+
+        assertThat(tuple.getFirst()).isEqualTo(1);
+        assertThat(tuple.getSecond()).isEqualTo(2);
+    }
+
+    @Test
+    void swapped_reverses_members_and_member_types() {
+        assertThat(IntIntTuple.of(1, 2).swapped()).isEqualTo(IntIntTuple.of(2, 1));
+
+        ObjIntTuple<String> swapped = IntObjTuple.of(1, "foo").swapped();
+        assertThat(swapped.getFirst()).isEqualTo("foo");
+        assertThat(swapped.getSecond()).isEqualTo(1);
+
+        DoubleObjTuple<String> swappedBack = ObjDoubleTuple.of("foo", 1.5).swapped();
+        assertThat(swappedBack).isEqualTo(DoubleObjTuple.of(1.5, "foo"));
+    }
+
+    @Test
+    void withFirst_and_withSecond_return_new_tuples() {
+        LongLongTuple tuple = LongLongTuple.of(1L, 2L);
+
+        assertThat(tuple.withFirst(3L)).isEqualTo(LongLongTuple.of(3L, 2L));
+        assertThat(tuple.withSecond(3L)).isEqualTo(LongLongTuple.of(1L, 3L));
+        assertThat(tuple).isEqualTo(LongLongTuple.of(1L, 2L));
+    }
+
+    @Test
+    void hashCode_and_toString_match_boxed_tuple() {
+        List<Object> primitiveTuples = Arrays.asList(
+                IntIntTuple.of(-7, 42),
+                LongLongTuple.of(Long.MAX_VALUE, -1L),
+                DoubleDoubleTuple.of(0.5, -0.0),
+                IntObjTuple.of(3, null),
+                ObjLongTuple.of("foo", 9L),
+                ObjDoubleTuple.of(null, Double.NaN)
+        );
+        List<Tuple<?, ?>> boxedTuples = Arrays.asList(
+                Tuple.of(-7, 42),
+                Tuple.of(Long.MAX_VALUE, -1L),
+                Tuple.of(0.5, -0.0),
+                Tuple.of(3, null),
+                Tuple.of("foo", 9L),
+                Tuple.of(null, Double.NaN)
+        );
+
+        for (int i = 0; i < primitiveTuples.size(); ++i) {
+            assertThat(primitiveTuples.get(i).hashCode()).isEqualTo(boxedTuples.get(i).hashCode());
+            assertThat(primitiveTuples.get(i).toString()).isEqualTo(boxedTuples.get(i).toString());
+        }
+    }
+
+    @Test
+    void double_members_use_Double_equality() {
+        assertThat(DoubleDoubleTuple.of(Double.NaN, 1.0)).isEqualTo(DoubleDoubleTuple.of(Double.NaN, 1.0));
+        assertThat(DoubleDoubleTuple.of(0.0, 1.0)).isNotEqualTo(DoubleDoubleTuple.of(-0.0, 1.0));
+    }
+
+    @Test
+    void toTuple_and_of_tuple_are_inverses() {
+        IntObjTuple<String> tuple = IntObjTuple.of(1, "foo");
+
+        Tuple<Integer, String> boxed = tuple.toTuple();
+        assertThat(boxed).isEqualTo(Tuple.of(1, "foo"));
+        assertThat(IntObjTuple.of(boxed)).isEqualTo(tuple);
+    }
+
+    @Test
+    void of_tuple_with_null_primitive_member_throws_NullPointerException() {
+        assertThatNullPointerException().isThrownBy(() -> IntIntTuple.of(Tuple.of(1, null)));
+        assertThatNullPointerException().isThrownBy(() -> ObjLongTuple.of(Tuple.of("foo", null)));
+    }
+
+    @Test
+    void primitive_tuples_order_like_boxed_tuples() {
+        Set<IntIntTuple> set = new TreeSet<>(Arrays.asList(
+                IntIntTuple.of(2, 1),
+                IntIntTuple.of(-1, 5),
+                IntIntTuple.of(2, -3)
+        ));
+
+        assertThat(set).containsExactly(IntIntTuple.of(-1, 5), IntIntTuple.of(2, -3), IntIntTuple.of(2, 1));
+        assertThat(IntIntTuple.of(0, 0).compareTo(null)).isGreaterThan(0);
+    }
+
+    @Test
+    void reference_members_order_nulls_first() {
+        IntObjTuple<String> nullSecond = IntObjTuple.of(1, null);
+        IntObjTuple<String> nonNullSecond = IntObjTuple.of(1, "foo");
+
+        assertThat(nullSecond.compareTo(nonNullSecond)).isLessThan(0);
+        assertThat(nonNullSecond.compareTo(nullSecond)).isGreaterThan(0);
+    }
+
+    @Test
+    void incomparable_reference_members_cannot_be_compared() {
+        ObjIntTuple<Object> t1 = ObjIntTuple.of(new Object(), 1);
+        ObjIntTuple<Object> t2 = ObjIntTuple.of(new Object(), 1);
+
+        assertThatThrownBy(() -> t1.compareTo(t2)).isInstanceOf(ClassCastException.class);
+    }
+
+    @Test
+    void tuples_of_two_primitives_are_serializable() {
+        assertThat(IntIntTuple.of(1, 2)).isInstanceOf(Serializable.class);
+        assertThat(LongLongTuple.of(1L, 2L)).isInstanceOf(Serializable.class);
+        assertThat(DoubleDoubleTuple.of(1.0, 2.0)).isInstanceOf(Serializable.class);
+    }
+}
@@ -0,0 +1,124 @@
+package com.wolfedgetech.justuple;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TupleBufferTest {
+
+    /*
+     * Enough pairs to span several pages.
+     */
+    private static final int SIZE = 200_000;
+
+    @Test
+    void new_buffer_is_empty() {
+        TupleBuffer buffer = new TupleBuffer();
+
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.size()).isZero();
+        assertThat(buffer.cursor().advance()).isFalse();
+        assertThat(buffer).isEmpty();
+    }
+
+    @Test
+    void appended_pairs_are_read_by_index_across_pages() {
+        TupleBuffer buffer = new TupleBuffer();
+        for (long i = 0; i < SIZE; ++i) {
+            buffer.append(i, -i);
+        }
+
+        assertThat(buffer.size()).isEqualTo(SIZE);
+        for (long i = 0; i < SIZE; i += 997) {
+            assertThat(buffer.getFirst(i)).isEqualTo(i);
+            assertThat(buffer.getSecond(i)).isEqualTo(-i);
+        }
+        assertThat(buffer.get(SIZE - 1)).isEqualTo(LongLongTuple.of(SIZE - 1, 1 - SIZE));
+        assertThatThrownBy(() -> buffer.get(SIZE)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> buffer.getFirst(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void cursor_visits_every_pair_in_order() {
+        TupleBuffer buffer = TupleBuffer.of(new long[]{1, 2, 3}, new long[]{10, 20});
+
+        TupleBuffer.Cursor cursor = buffer.cursor();
+        assertThatIllegalStateException().isThrownBy(cursor::getFirst);
+
+        long sum = 0;
+        while (cursor.advance()) {
+            sum += cursor.getFirst() * cursor.getSecond();
+        }
+        assertThat(sum).isEqualTo(1 * 10 + 2 * 20 + 3 * 0);
+        assertThat(cursor.advance()).isFalse();
+        assertThatIllegalStateException().isThrownBy(cursor::getSecond);
+    }
+
+    @Test
+    void drained_cursor_visits_pairs_appended_later() {
+        TupleBuffer buffer = new TupleBuffer();
+        TupleBuffer.Cursor cursor = buffer.cursor();
+        assertThat(cursor.advance()).isFalse();
+
+        buffer.append(1, 10);
+        assertThatIllegalStateException().isThrownBy(cursor::getFirst);
+        assertThat(cursor.advance()).isTrue();
+        assertThat(cursor.toTuple()).isEqualTo(LongLongTuple.of(1, 10));
+        assertThat(cursor.advance()).isFalse();
+
+        buffer.append(2, 20);
+        assertThatIllegalStateException().isThrownBy(cursor::getSecond);
+        assertThat(cursor.advance()).isTrue();
+        assertThat(cursor.index()).isEqualTo(1);
+        assertThat(cursor.toTuple()).isEqualTo(LongLongTuple.of(2, 20));
+        assertThat(cursor.advance()).isFalse();
+    }
+
+    @Test
+    void converts_from_and_to_tuples() {
+        List<Tuple<Long, Long>> tuples = Arrays.asList(Tuple.of(1L, 2L), Tuple.of(3L, Long.MIN_VALUE));
+
+        TupleBuffer buffer = TupleBuffer.of(tuples);
+
+        assertThat(buffer.toTuples()).isEqualTo(tuples);
+        assertThat(Tuples.map(buffer.toTuples())).containsEntry(3L, Long.MIN_VALUE);
+        assertThat(buffer).containsExactly(LongLongTuple.of(1L, 2L), LongLongTuple.of(3L, Long.MIN_VALUE));
+    }
+
+    @Test
+    void null_members_cannot_be_appended() {
+        assertThatNullPointerException().isThrownBy(() ->
+                TupleBuffer.of(Collections.singletonList(Tuple.of(1L, null))));
+    }
+
+    @Test
+    void stream_is_ordered_in_parallel() {
+        TupleBuffer buffer = new TupleBuffer();
+        for (long i = 0; i < SIZE; ++i) {
+            buffer.append(i, i * 2);
+        }
+
+        List<LongLongTuple> tuples = buffer.stream().parallel().collect(Collectors.toList());
+
+        assertThat(tuples).hasSize(SIZE);
+        assertThat(tuples.get(123_456)).isEqualTo(LongLongTuple.of(123_456, 246_912));
+    }
+
+    @Test
+    void clear_removes_all_pairs() {
+        TupleBuffer buffer = TupleBuffer.of(new long[]{1}, new long[]{2});
+        buffer.clear();
+
+        assertThat(buffer.isEmpty()).isTrue();
+        buffer.append(3, 4);
+        assertThat(buffer.toString()).isEqualTo("[(3, 4)]");
+    }
+}
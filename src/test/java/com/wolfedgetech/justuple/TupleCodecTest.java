@@ -0,0 +1,115 @@
+package com.wolfedgetech.justuple;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TupleCodecTest {
+
+    private final TupleCodec<String, Long> codec = TupleCodec.of(MemberCodec.strings(), MemberCodec.longs());
+
+    @Test
+    void encode_writes_tag_and_members() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        codec.encode(Tuple.of("foo", 1L), new DataOutputStream(bytes));
+
+        assertThat(bytes.size()).isEqualTo(1 + 4 + 3 + 8);
+    }
+
+    @Test
+    void decode_reads_encoded_tuple() throws IOException {
+        Tuple<String, Long> tuple = Tuple.of("foo", 1L);
+
+        assertThat(roundTrip(tuple)).isEqualTo(tuple);
+    }
+
+    @Test
+    void null_members_are_encoded_in_the_tag_alone() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        codec.encode(Tuple.of(null, null), new DataOutputStream(bytes));
+
+        assertThat(bytes.size()).isEqualTo(1);
+        assertThat(roundTrip(Tuple.of(null, 2L))).isEqualTo(Tuple.of(null, 2L));
+        assertThat(roundTrip(Tuple.of("foo", null))).isEqualTo(Tuple.of("foo", null));
+    }
+
+    @Test
+    void partial_tuples_stay_partial() throws IOException {
+        TupleCodec<String, String> strings = TupleCodec.of(MemberCodec.strings(), MemberCodec.strings());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        strings.encode(Tuple.partial("foo"), new DataOutputStream(bytes));
+
+        Tuple<String, String> decoded = strings.decode(input(bytes));
+
+        assertThat(decoded.isPartial()).isTrue();
+        assertThat(decoded.getFirst()).isEqualTo("foo");
+    }
+
+    @Test
+    void encode_all_round_trips_lists() throws IOException {
+        List<Tuple<String, Long>> tuples = Arrays.asList(
+                Tuple.of("foo", 1L),
+                Tuple.of(null, 2L),
+                Tuple.of("bar", null)
+        );
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        codec.encodeAll(tuples, new DataOutputStream(bytes));
+
+        assertThat(codec.decodeAll(input(bytes))).isEqualTo(tuples);
+    }
+
+    @Test
+    void encode_all_round_trips_empty_lists() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        codec.encodeAll(Collections.emptyList(), new DataOutputStream(bytes));
+
+        assertThat(codec.decodeAll(input(bytes))).isEmpty();
+    }
+
+    @Test
+    void invalid_tag_is_rejected() {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(new byte[]{(byte) 0x80}));
+
+        assertThatThrownBy(() -> codec.decode(in)).isInstanceOf(StreamCorruptedException.class);
+    }
+
+    @Test
+    void string_length_beyond_the_input_is_rejected() {
+        byte[] bytes = {0, 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 'f', 'o', 'o'};
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+
+        assertThatThrownBy(() -> codec.decode(in)).isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    void tuple_count_beyond_the_input_is_rejected() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(Integer.MAX_VALUE);
+        codec.encode(Tuple.of("foo", 1L), out);
+
+        assertThatThrownBy(() -> codec.decodeAll(input(bytes))).isInstanceOf(EOFException.class);
+    }
+
+    private Tuple<String, Long> roundTrip(Tuple<String, Long> tuple) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        codec.encode(tuple, new DataOutputStream(bytes));
+        return codec.decode(input(bytes));
+    }
+
+    private static DataInputStream input(ByteArrayOutputStream bytes) {
+        return new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+}
@@ -0,0 +1,100 @@
+package com.wolfedgetech.justuple;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TupleColumnsTest {
+
+    @Test
+    void new_columns_are_empty() {
+        TupleColumns<String, Integer> columns = new TupleColumns<>();
+
+        assertThat(columns.isEmpty()).isTrue();
+        assertThat(columns.size()).isZero();
+        assertThat(columns.asList()).isEmpty();
+    }
+
+    @Test
+    void negative_capacity_is_rejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TupleColumns<>(-1));
+    }
+
+    @Test
+    void add_appends_members_to_both_columns() {
+        TupleColumns<String, Integer> columns = new TupleColumns<>(1);
+        columns.add("foo", 1);
+        columns.add(Tuple.of(null, 2));
+        columns.add("bar", null);
+
+        assertThat(columns.size()).isEqualTo(3);
+        assertThat(columns.getFirst(1)).isNull();
+        assertThat(columns.getSecond(1)).isEqualTo(2);
+        assertThat(columns.get(2)).isEqualTo(Tuple.of("bar", null));
+        assertThat(columns.firsts()).containsExactly("foo", null, "bar");
+        assertThat(columns.seconds()).containsExactly(1, 2, null);
+    }
+
+    @Test
+    void indexes_are_checked_against_size_rather_than_capacity() {
+        TupleColumns<String, Integer> columns = new TupleColumns<>(10);
+        columns.add("foo", 1);
+
+        assertThatThrownBy(() -> columns.getFirst(1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> columns.seconds().get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> columns.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void addAll_appends_tuples_and_columns() {
+        TupleColumns<Integer, Integer> columns = new TupleColumns<>();
+        columns.addAll(IntStream.range(0, 100).mapToObj(i -> Tuple.of(i, -i)).collect(Collectors.toList()));
+        columns.addAll(columns);
+
+        assertThat(columns.size()).isEqualTo(200);
+        assertThat(columns.get(99)).isEqualTo(Tuple.of(99, -99));
+        assertThat(columns.get(199)).isEqualTo(Tuple.of(99, -99));
+    }
+
+    @Test
+    void views_are_unmodifiable_random_access_and_live() {
+        TupleColumns<String, String> columns = new TupleColumns<>();
+        List<Tuple<String, String>> tuples = columns.asList();
+        List<String> firsts = columns.firsts();
+
+        columns.add("foo", "bar");
+
+        assertThat(tuples).containsExactly(Tuple.of("foo", "bar"));
+        assertThat(firsts).containsExactly("foo");
+        assertThat(tuples).isInstanceOf(RandomAccess.class);
+        assertThatThrownBy(() -> tuples.add(Tuple.of("X", "Y"))).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> firsts.set(0, "X")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void stream_is_sized_and_ordered_in_parallel() {
+        TupleColumns<Integer, String> columns = new TupleColumns<>();
+        for (int i = 0; i < 10_000; ++i) {
+            columns.add(i, String.valueOf(i));
+        }
+
+        assertThat(columns.stream().spliterator().getExactSizeIfKnown()).isEqualTo(10_000);
+        assertThat(columns.stream().parallel().collect(Collectors.toList())).isEqualTo(columns.asList());
+    }
+
+    @Test
+    void toString_lists_tuples() {
+        TupleColumns<String, Integer> columns = new TupleColumns<>();
+        columns.addAll(Arrays.asList(Tuple.of("a", 1), Tuple.of("b", 2)));
+
+        assertThat(columns.toString()).isEqualTo("[(a, 1), (b, 2)]");
+    }
+}
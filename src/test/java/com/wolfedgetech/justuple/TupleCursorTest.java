@@ -0,0 +1,88 @@
+package com.wolfedgetech.justuple;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+public class TupleCursorTest {
+
+    @Test
+    void zip_cursor_of_iterables_pads_shorter_iterable_with_nulls() {
+        TupleCursor<String, Integer> cursor = Tuples.zipCursor(Arrays.asList("foo", "bar"), Arrays.asList(1, 2, 3));
+
+        assertThat(drain(cursor)).containsExactly(Tuple.of("foo", 1), Tuple.of("bar", 2), Tuple.of(null, 3));
+    }
+
+    @Test
+    void zip_cursor_of_streams_pads_shorter_stream_with_nulls() {
+        TupleCursor<String, Integer> cursor = Tuples.zipCursor(Stream.of("foo", "bar", "baz"), Stream.of(1));
+
+        assertThat(drain(cursor)).containsExactly(Tuple.of("foo", 1), Tuple.of("bar", null), Tuple.of("baz", null));
+    }
+
+    @Test
+    void zip_cursor_matches_zip() {
+        List<String> firsts = Arrays.asList("a", null, "c");
+        List<Integer> seconds = Arrays.asList(null, 2);
+
+        assertThat(drain(Tuples.zipCursor(firsts, seconds))).isEqualTo(Tuples.zip(firsts, seconds));
+        assertThat(drain(Tuples.zipCursor(firsts.stream(), seconds.stream()))).isEqualTo(Tuples.zip(firsts, seconds));
+    }
+
+    @Test
+    void map_cursor_reads_entries_as_pairs() {
+        Map<String, Integer> map = new HashMap<>();
+        map.put("foo", 1);
+        map.put(null, null);
+
+        assertThat(drain(Tuples.cursor(map))).containsExactlyInAnyOrderElementsOf(Tuples.from(map));
+    }
+
+    @Test
+    void columns_cursor_reads_members_in_place() {
+        TupleColumns<String, Integer> columns = Tuples.zipColumns(new String[]{"foo", "bar"}, new Integer[]{1});
+        TupleCursor<String, Integer> cursor = columns.cursor();
+
+        assertThat(cursor.advance()).isTrue();
+        assertThat(cursor.first()).isEqualTo("foo");
+        assertThat(cursor.second()).isEqualTo(1);
+        assertThat(cursor.advance()).isTrue();
+        assertThat(cursor.toTuple()).isEqualTo(Tuple.of("bar", null));
+        assertThat(cursor.advance()).isFalse();
+
+        columns.add("baz", 3);
+        assertThat(cursor.advance()).isTrue();
+        assertThat(cursor.toTuple()).isEqualTo(Tuple.of("baz", 3));
+    }
+
+    @Test
+    void unpositioned_cursor_rejects_reads() {
+        TupleCursor<String, Integer> cursor = Tuples.zipCursor(
+                Collections.singletonList("foo"), Collections.<Integer>emptyList());
+
+        assertThatIllegalStateException().isThrownBy(cursor::first);
+        assertThat(cursor.advance()).isTrue();
+        assertThat(cursor.first()).isEqualTo("foo");
+        assertThat(cursor.advance()).isFalse();
+        assertThatIllegalStateException().isThrownBy(cursor::second);
+        assertThatIllegalStateException().isThrownBy(cursor::toTuple);
+        assertThatIllegalStateException().isThrownBy(() -> new TupleColumns<>().cursor().first());
+    }
+
+    private static <U, V> List<Tuple<U, V>> drain(TupleCursor<U, V> cursor) {
+        List<Tuple<U, V>> tuples = new ArrayList<>();
+        while (cursor.advance()) {
+            tuples.add(cursor.toTuple());
+        }
+        return tuples;
+    }
+}
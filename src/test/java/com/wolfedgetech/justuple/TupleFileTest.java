@@ -0,0 +1,190 @@
+package com.wolfedgetech.justuple;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TupleFileTest {
+
+    /*
+     * The header is followed by the first record's length prefix and null flags, then its first member.
+     */
+    private static final int STRING_LENGTH_OFFSET = 40 + Integer.BYTES + 1;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void fixed_width_tuples_are_read_back_by_index_iteration_and_stream() throws IOException {
+        Path path = directory.resolve("longs.tuples");
+        List<Tuple<Long, Double>> tuples = IntStream.range(0, 1000)
+                .mapToObj(i -> Tuple.of((long) i, i / 2.0))
+                .collect(Collectors.toList());
+
+        TupleFile.write(path, tuples, MemberCodec.longs(), MemberCodec.doubles());
+
+        assertThat(Files.size(path)).isEqualTo(40 + 1000 * 17);
+        try (TupleFile<Long, Double> file = TupleFile.open(path, MemberCodec.longs(), MemberCodec.doubles())) {
+            assertThat(file.size()).isEqualTo(1000);
+            assertThat(file.get(999)).isEqualTo(Tuple.of(999L, 499.5));
+            assertThat(file).containsExactlyElementsOf(tuples);
+            assertThat(file.stream().parallel().collect(Collectors.toList())).isEqualTo(tuples);
+        }
+    }
+
+    @Test
+    void variable_width_tuples_are_read_back_by_index_and_iteration() throws IOException {
+        Path path = directory.resolve("strings.tuples");
+        List<Tuple<String, Integer>> tuples = Arrays.asList(
+                Tuple.of("foo", 1),
+                Tuple.of("", 2),
+                Tuple.of("été 😀", 3),
+                Tuple.of(String.join("", Collections.nCopies(70_000, "x")), 4)
+        );
+
+        TupleFile.write(path, tuples, MemberCodec.strings(), MemberCodec.ints());
+
+        try (TupleFile<String, Integer> file = TupleFile.open(path, MemberCodec.strings(), MemberCodec.ints())) {
+            assertThat(file.get(2)).isEqualTo(tuples.get(2));
+            assertThat(file.get(3)).isEqualTo(tuples.get(3));
+            assertThat(file).containsExactlyElementsOf(tuples);
+        }
+    }
+
+    @Test
+    void corrupt_string_length_is_rejected_without_allocating_it() throws IOException {
+        Path path = directory.resolve("corrupt.tuples");
+        TupleFile.write(path, Collections.singletonList(Tuple.of("foo", 1)), MemberCodec.strings(), MemberCodec.ints());
+        byte[] bytes = Files.readAllBytes(path);
+
+        for (int length : new int[]{Integer.MAX_VALUE, -1}) {
+            ByteBuffer.wrap(bytes).putInt(STRING_LENGTH_OFFSET, length);
+            Files.write(path, bytes);
+            try (TupleFile<String, Integer> file = TupleFile.open(path, MemberCodec.strings(), MemberCodec.ints())) {
+                assertThatThrownBy(() -> file.get(0))
+                        .isInstanceOf(UncheckedIOException.class)
+                        .hasCauseInstanceOf(length < 0 ? StreamCorruptedException.class : EOFException.class);
+            }
+        }
+    }
+
+    @Test
+    void null_members_are_supported() throws IOException {
+        List<Tuple<Long, String>> tuples = Arrays.asList(
+                Tuple.of(null, "foo"),
+                Tuple.of(1L, null),
+                Tuple.of(null, null)
+        );
+        Path fixed = directory.resolve("fixed.tuples");
+        Path variable = directory.resolve("variable.tuples");
+
+        TupleFile.write(fixed, tuples, MemberCodec.longs(), new FixedWidthStringCodec(3));
+        TupleFile.write(variable, tuples, MemberCodec.longs(), MemberCodec.strings());
+
+        try (TupleFile<Long, String> file = TupleFile.open(fixed, MemberCodec.longs(), new FixedWidthStringCodec(3))) {
+            assertThat(file).containsExactlyElementsOf(tuples);
+            assertThat(file.get(1)).isEqualTo(Tuple.of(1L, null));
+        }
+        try (TupleFile<Long, String> file = TupleFile.open(variable, MemberCodec.longs(), MemberCodec.strings())) {
+            assertThat(file).containsExactlyElementsOf(tuples);
+            assertThat(file.get(2)).isEqualTo(Tuple.of(null, null));
+        }
+    }
+
+    @Test
+    void empty_files_are_supported() throws IOException {
+        Path path = directory.resolve("empty.tuples");
+
+        List<Tuple<String, String>> tuples = Collections.emptyList();
+        TupleFile.write(path, tuples, MemberCodec.strings(), MemberCodec.strings());
+
+        try (TupleFile<String, String> file = TupleFile.open(path, MemberCodec.strings(), MemberCodec.strings())) {
+            assertThat(file.isEmpty()).isTrue();
+            assertThat(file).isEmpty();
+            assertThatThrownBy(() -> file.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Test
+    void open_rejects_codecs_of_other_widths() throws IOException {
+        Path path = directory.resolve("ints.tuples");
+        TupleFile.write(path, Collections.singletonList(Tuple.of(1, 2)), MemberCodec.ints(), MemberCodec.ints());
+
+        assertThatThrownBy(() -> TupleFile.open(path, MemberCodec.longs(), MemberCodec.ints()))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void open_rejects_other_files() throws IOException {
+        Path path = directory.resolve("other.txt");
+        Files.write(path, Collections.nCopies(10, "not a tuple file"));
+
+        assertThatThrownBy(() -> TupleFile.open(path, MemberCodec.ints(), MemberCodec.ints()))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void write_rejects_fixed_width_codecs_writing_other_widths() {
+        Path path = directory.resolve("bad.tuples");
+
+        assertThatIllegalStateException().isThrownBy(() -> TupleFile.write(path,
+                Collections.singletonList(Tuple.of(1, "toolong")), MemberCodec.ints(), new FixedWidthStringCodec(3)));
+    }
+
+    @Test
+    void closed_file_cannot_be_read() throws IOException {
+        Path path = directory.resolve("closed.tuples");
+        TupleFile.write(path, Collections.singletonList(Tuple.of(1, 2)), MemberCodec.ints(), MemberCodec.ints());
+
+        TupleFile<Integer, Integer> file = TupleFile.open(path, MemberCodec.ints(), MemberCodec.ints());
+        file.close();
+
+        assertThatIllegalStateException().isThrownBy(() -> file.get(0));
+    }
+
+    /*
+     * A fixed-width codec of ASCII strings of a given length.
+     */
+    private static class FixedWidthStringCodec implements MemberCodec<String> {
+        private final int width;
+
+        FixedWidthStringCodec(int width) {
+            this.width = width;
+        }
+
+        @Override
+        public void write(String value, DataOutput out) throws IOException {
+            out.writeBytes(value);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            byte[] bytes = new byte[width];
+            in.readFully(bytes);
+            return new String(bytes, "US-ASCII");
+        }
+
+        @Override
+        public int width() {
+            return width;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.wolfedgetech.justuple;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class TupleInternerTest {
+
+    @Test
+    void equal_tuples_intern_to_the_first_instance() {
+        TupleInterner interner = new TupleInterner();
+        Tuple<String, Integer> tuple = Tuple.of("foo", 1);
+
+        assertThat(interner.intern(tuple)).isSameAs(tuple);
+        assertThat(interner.intern(Tuple.of("foo", 1))).isSameAs(tuple);
+        assertThat(interner.intern("foo", 1)).isSameAs(tuple);
+        assertThat(interner.size()).isEqualTo(1);
+    }
+
+    @Test
+    void unequal_tuples_intern_to_distinct_instances() {
+        TupleInterner interner = new TupleInterner();
+        Tuple<String, Integer> foo = interner.intern("foo", 1);
+        Tuple<String, Integer> bar = interner.intern("bar", 1);
+        Tuple<String, Integer> nulls = interner.intern(null, null);
+
+        assertThat(foo).isNotSameAs(bar);
+        assertThat(interner.intern(null, null)).isSameAs(nulls);
+        assertThat(interner.size()).isEqualTo(3);
+    }
+
+    @Test
+    void non_serializable_members_are_interned() {
+        TupleInterner interner = new TupleInterner(1);
+        Object member = new Object();
+        Tuple<Object, Object> tuple = interner.intern(member, member);
+
+        assertThat(interner.intern(Tuple.of(member, member))).isSameAs(tuple);
+    }
+
+    @Test
+    void partial_tuples_are_not_pooled() {
+        TupleInterner interner = new TupleInterner();
+        Tuple<String, String> partial = Tuple.partial("foo");
+
+        assertThat(interner.intern(partial)).isSameAs(partial);
+        assertThat(interner.intern(Tuple.of("foo", null)).isPartial()).isFalse();
+        assertThat(interner.intern(partial)).isSameAs(partial);
+        assertThat(interner.size()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrent_interning_yields_one_instance_per_distinct_tuple() {
+        TupleInterner interner = new TupleInterner(4);
+        Set<Tuple<Integer, Integer>> interned = IntStream.range(0, 100_000).parallel()
+                .mapToObj(i -> interner.intern(Tuple.of(i % 100, i % 7)))
+                .collect(Collectors.toCollection(() -> Collections.newSetFromMap(new IdentityHashMap<>())));
+
+        assertThat(interned).hasSize(700);
+    }
+
+    @Test
+    void non_positive_concurrency_level_is_rejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TupleInterner(0));
+    }
+}
@@ -0,0 +1,200 @@
+package com.wolfedgetech.justuple;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TupleKeyMapTest {
+
+    @Test
+    void new_map_is_empty() {
+        TupleKeyMap<String, Integer, String> map = new TupleKeyMap<>();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.size()).isZero();
+        assertThat(map.get("foo", 1)).isNull();
+        assertThat(map.toMap()).isEmpty();
+    }
+
+    @Test
+    void negative_expected_size_is_rejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TupleKeyMap<>(-1));
+    }
+
+    @Test
+    void put_maps_values_by_both_members() {
+        TupleKeyMap<String, Integer, String> map = new TupleKeyMap<>();
+
+        assertThat(map.put("foo", 1, "a")).isNull();
+        assertThat(map.put("foo", 2, "b")).isNull();
+        assertThat(map.put("bar", 1, "c")).isNull();
+        assertThat(map.put("foo", 1, "d")).isEqualTo("a");
+
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.get("foo", 1)).isEqualTo("d");
+        assertThat(map.get("foo", 2)).isEqualTo("b");
+        assertThat(map.get("bar", 1)).isEqualTo("c");
+        assertThat(map.get("bar", 2)).isNull();
+    }
+
+    @Test
+    void tuple_keys_and_member_keys_are_interchangeable() {
+        TupleKeyMap<String, Integer, String> map = new TupleKeyMap<>();
+        map.put(Tuple.of("foo", 1), "a");
+        map.put("bar", 2, "b");
+
+        assertThat(map.get("foo", 1)).isEqualTo("a");
+        assertThat(map.get(Tuple.of("bar", 2))).isEqualTo("b");
+        assertThat(map.containsKey(Tuple.of("foo", 1))).isTrue();
+        assertThat(map.containsKey("bar", 2)).isTrue();
+        assertThat(map.remove(Tuple.of("foo", 1))).isEqualTo("a");
+        assertThat(map.containsKey("foo", 1)).isFalse();
+    }
+
+    @Test
+    void null_members_and_values_are_supported() {
+        TupleKeyMap<String, Integer, String> map = new TupleKeyMap<>();
+        map.put(null, null, "a");
+        map.put("foo", null, null);
+
+        assertThat(map.get(null, null)).isEqualTo("a");
+        assertThat(map.get(Tuple.of(null, null))).isEqualTo("a");
+        assertThat(map.get("foo", null)).isNull();
+        assertThat(map.containsKey("foo", null)).isTrue();
+        assertThat(map.containsKey(null, 1)).isFalse();
+    }
+
+    @Test
+    void compute_if_absent_only_computes_missing_or_null_values() {
+        TupleKeyMap<String, Integer, String> map = new TupleKeyMap<>();
+        map.put("foo", 1, "a");
+        map.put("foo", 2, null);
+
+        assertThat(map.computeIfAbsent("foo", 1, (u, v) -> u + v)).isEqualTo("a");
+        assertThat(map.computeIfAbsent("foo", 2, (u, v) -> u + v)).isEqualTo("foo2");
+        assertThat(map.computeIfAbsent("foo", 3, (u, v) -> u + v)).isEqualTo("foo3");
+        assertThat(map.computeIfAbsent("foo", 4, (u, v) -> null)).isNull();
+
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.get("foo", 2)).isEqualTo("foo2");
+        assertThat(map.containsKey("foo", 4)).isFalse();
+    }
+
+    @Test
+    void computeIfAbsent_rejects_function_that_modifies_map() {
+        TupleKeyMap<String, Integer, String> map = new TupleKeyMap<>();
+        map.put("foo", 1, null);
+        map.put("bar", 1, "b");
+
+        assertThatThrownBy(() -> map.computeIfAbsent("foo", 2, (u, v) -> map.put(u, v, "x")))
+                .isInstanceOf(ConcurrentModificationException.class);
+        assertThatThrownBy(() -> map.computeIfAbsent("foo", 1, (u, v) -> map.remove(u, v)))
+                .isInstanceOf(ConcurrentModificationException.class);
+        assertThatThrownBy(() -> map.computeIfAbsent("baz", 1, (u, v) -> {
+            for (int i = 0; i < 100; ++i) {
+                map.put("grow", i, "g");
+            }
+            return "z";
+        })).isInstanceOf(ConcurrentModificationException.class);
+
+        assertThat(map.get("foo", 2)).isEqualTo("x");
+        assertThat(map.get("bar", 1)).isEqualTo("b");
+        assertThat(map.get("grow", 99)).isEqualTo("g");
+        assertThat(map.containsKey("baz", 1)).isFalse();
+        assertThat(map.size()).isEqualTo(102);
+    }
+
+    @Test
+    void remove_keeps_colliding_keys_reachable() {
+        TupleKeyMap<Collider, Integer, Integer> map = new TupleKeyMap<>();
+        for (int i = 0; i < 20; ++i) {
+            map.put(new Collider(i), 0, i);
+        }
+
+        assertThat(map.remove(new Collider(3), 0)).isEqualTo(3);
+        assertThat(map.remove(new Collider(3), 0)).isNull();
+        assertThat(map.remove(new Collider(0), 0)).isEqualTo(0);
+
+        assertThat(map.size()).isEqualTo(18);
+        for (int i = 0; i < 20; ++i) {
+            assertThat(map.get(new Collider(i), 0)).isEqualTo(i == 0 || i == 3 ? null : i);
+        }
+    }
+
+    @Test
+    void map_behaves_like_a_hash_map_under_random_operations() {
+        Random random = new Random(20261015L);
+        TupleKeyMap<Integer, Integer, Integer> map = new TupleKeyMap<>();
+        Map<Tuple<Integer, Integer>, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 100_000; ++i) {
+            int first = random.nextInt(64);
+            int second = random.nextInt(64);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(first, second)).isEqualTo(expected.remove(Tuple.of(first, second)));
+            } else {
+                assertThat(map.put(first, second, i)).isEqualTo(expected.put(Tuple.of(first, second), i));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        assertThat(map.toMap()).isEqualTo(expected);
+    }
+
+    @Test
+    void of_copies_tuple_keyed_map() {
+        Map<Tuple<String, Integer>, String> source = new HashMap<>();
+        source.put(Tuple.of("foo", 1), "a");
+        source.put(Tuple.of("bar", 2), "b");
+
+        TupleKeyMap<String, Integer, String> map = TupleKeyMap.of(source);
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get("bar", 2)).isEqualTo("b");
+        assertThat(map.toMap()).isEqualTo(source);
+    }
+
+    @Test
+    void clear_removes_all_entries() {
+        TupleKeyMap<String, Integer, String> map = new TupleKeyMap<>();
+        map.put("foo", 1, "a");
+        map.clear();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get("foo", 1)).isNull();
+        assertThat(map.put("foo", 1, "b")).isNull();
+    }
+
+    @Test
+    void toString_is_formatted_like_a_map() {
+        TupleKeyMap<String, Integer, String> map = new TupleKeyMap<>();
+        map.put("foo", 1, "a");
+
+        assertThat(map.toString()).isEqualTo("{(foo, 1)=a}");
+    }
+
+    private static final class Collider {
+
+        private final int id;
+
+        Collider(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Collider && ((Collider) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.wolfedgetech.justuple;
 
 import org.junit.jupiter.api.Test;
 
-import java.io.Serializable;
+import java.io.*;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.*;
 import java.util.stream.Stream;
 
@@ -32,6 +34,38 @@ public class TupleTest {
                 .isNotInstanceOf(Serializable.class);
     }
 
+    @Test
+    void tuple_serializability_follows_subclass_of_member() {
+        assertThat(Tuple.of(new ArrayList<>(), "bar")).isInstanceOf(Serializable.class);
+        assertThat(Tuple.of(new AbstractList<Object>() {
+            @Override
+            public Object get(int index) {
+                throw new IndexOutOfBoundsException();
+            }
+
+            @Override
+            public int size() {
+                return 0;
+            }
+        }, "bar")).isNotInstanceOf(Serializable.class);
+    }
+
+    @Test
+    void monomorphic_mode_returns_serializable_tuple_for_any_members() throws Exception {
+        URL classes = Tuple.class.getProtectionDomain().getCodeSource().getLocation();
+        System.setProperty(Tuple.MONOMORPHIC_PROPERTY, "true");
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes}, null)) {
+            Class<?> tupleClass = loader.loadClass(Tuple.class.getName());
+            Object first = tupleClass.getMethod("of", Object.class, Object.class).invoke(null, new Object(), "bar");
+            Object second = tupleClass.getMethod("of", Object.class, Object.class).invoke(null, "foo", "bar");
+
+            assertThat(first).isInstanceOf(Serializable.class);
+            assertThat(first.getClass()).isSameAs(second.getClass());
+        } finally {
+            System.clearProperty(Tuple.MONOMORPHIC_PROPERTY);
+        }
+    }
+
     @Test
     void swapped_serializable_tuple_is_itself_serializable() {
         Tuple<String, String> tuple = Tuple.of("foo", "bar").swapped();
@@ -407,6 +441,39 @@ public class TupleTest {
         assertThat(tuple.equals(null)).isFalse();
     }
 
+    @Test
+    void hashCode_is_consistent_with_Objects_hash() {
+        Stream.of(
+                Tuple.of("foo", 12),
+                Tuple.of(null, "bar"),
+                Tuple.of(1L, null),
+                Tuple.of(null, null),
+                Tuple.partial("foo")
+        ).forEach(tuple -> {
+            int expected = Objects.hash(tuple.getFirst(), tuple.getSecond());
+            assertThat(tuple.hashCode()).isEqualTo(expected);
+            assertThat(tuple.hashCode())
+                    .as("cached hash code is returned on subsequent calls")
+                    .isEqualTo(expected);
+        });
+    }
+
+    @Test
+    void equality_is_unaffected_by_cached_hash_codes() {
+        Tuple<String, String> tuple = Tuple.of("X", "Y");
+        Tuple<String, String> equalTuple = Tuple.of("X", "Y");
+        Tuple<String, String> unequalTuple = Tuple.of("X", "Z");
+
+        tuple.hashCode();
+        assertThat(tuple.equals(equalTuple)).isTrue();
+        equalTuple.hashCode();
+        assertThat(tuple.equals(equalTuple)).isTrue();
+
+        unequalTuple.hashCode();
+        assertThat(tuple.equals(unequalTuple)).isFalse();
+        assertThat(unequalTuple.equals(tuple)).isFalse();
+    }
+
     @Test
     void withFirst_returns_new_tuple() {
         Tuple<Integer, Integer> tuple = Tuple.of(1, 2);
@@ -449,4 +516,73 @@ public class TupleTest {
         assertThat(partial).isNotInstanceOf(Serializable.class);
     }
 
+    @Test
+    void partial_tuple_shares_its_class_with_complete_tuples() {
+        Tuple<String, String> partial = Tuple.partial("foo");
+
+        assertThat(partial.isPartial()).isTrue();
+        assertThat(partial).hasSameClassAs(Tuple.of("foo", null)).isEqualTo(Tuple.of("foo", null));
+        assertThat(partial.swapped().isPartial()).isFalse();
+        assertThat(Tuple.partial(new Object())).hasSameClassAs(Tuple.of(new Object(), null));
+    }
+
+    @Test
+    void intern_returns_the_same_instance_for_equal_tuples() {
+        Tuple<String, Integer> tuple = Tuple.of(new String("foo"), 1000);
+        Tuple<String, Integer> duplicate = Tuple.of(new String("foo"), 1000);
+
+        assertThat(duplicate.intern()).isSameAs(tuple.intern());
+        assertThat(Tuple.of("bar", 1000).intern()).isNotSameAs(tuple.intern());
+    }
+
+    @Test
+    void serializable_tuple_round_trips_through_serialization() throws Exception {
+        Tuple<String, Integer> tuple = Tuple.of("foo", 1);
+
+        Object copy = deserialize(serialize(tuple));
+
+        assertThat(copy).isInstanceOf(Serializable.class).isEqualTo(tuple);
+        assertThat(((Tuple<?, ?>) copy).isPartial()).isFalse();
+    }
+
+    @Test
+    void serialization_round_trips_every_member_type_and_nulls() throws Exception {
+        List<Tuple<?, ?>> tuples = Arrays.asList(
+                Tuple.of(1L, 2.5),
+                Tuple.of(null, "bar"),
+                Tuple.of(null, null),
+                Tuple.of(new ArrayList<>(Arrays.asList(1, 2)), 'c'),
+                Tuple.partial("foo"),
+                Tuple.partial(null)
+        );
+
+        List<?> copies = (List<?>) deserialize(serialize(new ArrayList<>(tuples)));
+
+        assertThat(copies).isEqualTo(tuples);
+        assertThat(((Tuple<?, ?>) copies.get(4)).isPartial()).isTrue();
+        assertThat(((Tuple<?, ?>) copies.get(5)).isPartial()).isTrue();
+        assertThat(((Tuple<?, ?>) copies.get(2)).isPartial()).isFalse();
+    }
+
+    @Test
+    void serialized_tuple_omits_the_tuple_class_descriptor() throws Exception {
+        byte[] bytes = serialize(Tuple.of("foo", 1));
+
+        assertThat(new String(bytes, "ISO-8859-1")).doesNotContain("SerializableTuple");
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+
 }
@@ -7,9 +7,11 @@ import java.util.*;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class TuplesTest {
 
@@ -34,6 +36,62 @@ public class TuplesTest {
         assertThatIllegalStateException().isThrownBy(() -> Tuples.map(array));
     }
 
+    @Test
+    void mapCompact_throws_IllegalStateException_when_duplicate_first_members() {
+        List<Tuple<String, String>> list = Arrays.asList(
+                Tuple.of("foo", "bar"),
+                Tuple.of(null, "bar"),
+                Tuple.of("foo", "baz")
+        );
+        assertThatIllegalStateException().isThrownBy(() -> Tuples.mapCompact(list))
+                .withMessage("Duplicate key foo");
+        assertThatIllegalStateException().isThrownBy(() -> Tuples.mapCompact(list.stream()));
+        assertThatIllegalStateException()
+                .isThrownBy(() -> Tuples.mapCompact(Tuple.of(null, "bar"), Tuple.of(null, "baz")))
+                .withMessage("Duplicate key null");
+    }
+
+    @Test
+    void mapCompact_equals_HashMap_of_same_entries_including_nulls() {
+        List<Tuple<Integer, String>> tuples = new ArrayList<>();
+        Map<Integer, String> expected = new HashMap<>();
+        for (int i = 0; i < 1000; ++i) {
+            tuples.add(Tuple.of(i, i % 10 == 0 ? null : "v" + i));
+            expected.put(i, i % 10 == 0 ? null : "v" + i);
+        }
+        tuples.add(Tuple.of(null, "nothing"));
+        expected.put(null, "nothing");
+
+        Map<Integer, String> compact = Tuples.mapCompact(tuples);
+        assertThat(compact).isEqualTo(expected).hasSameHashCodeAs(expected).hasSize(1001);
+        assertThat(compact.get(null)).isEqualTo("nothing");
+        assertThat(compact.get(10)).isNull();
+        assertThat(compact.containsKey(10)).isTrue();
+        assertThat(compact.containsKey(1000)).isFalse();
+        assertThat(compact.getOrDefault(1000, "none")).isEqualTo("none");
+        assertThat(compact.containsValue(null)).isTrue();
+        assertThat(compact.containsValue("v1000")).isFalse();
+        assertThat(Tuples.mapCompact(new NonCollectionIterable<>(tuples))).isEqualTo(expected);
+        assertThat(Tuples.mapCompact(tuples.stream().filter(tuple -> true))).isEqualTo(expected);
+
+        Map<Integer, String> visited = new HashMap<>();
+        compact.forEach(visited::put);
+        assertThat(visited).isEqualTo(expected);
+    }
+
+    @Test
+    void mapCompact_is_unmodifiable() {
+        Map<String, Integer> compact = Tuples.mapCompact(Tuple.of("foo", 1));
+
+        assertThatThrownBy(() -> compact.put("bar", 2)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> compact.remove("foo")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(compact::clear).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> compact.entrySet().iterator().next().setValue(2))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(compact).containsOnly(new AbstractMap.SimpleEntry<>("foo", 1));
+        assertThat(Tuples.mapCompact(Collections.<Tuple<String, Integer>>emptyList())).isEmpty();
+    }
+
     @Test
     void map_has_same_number_of_entries_as_tuple_args() {
         List<Tuple<String, Integer>> list = Arrays.asList(
@@ -198,6 +256,36 @@ public class TuplesTest {
         assertThat(tuples).contains(Tuple.of("baz", 3));
     }
 
+    @Test
+    void view_method_reflects_map_and_looks_up_keys() {
+        Map<String, Integer> map = new HashMap<>();
+        map.put("foo", 1);
+        map.put(null, null);
+
+        Set<Tuple<String, Integer>> view = Tuples.view(map);
+        assertThat(view).containsExactlyInAnyOrder(Tuple.of("foo", 1), Tuple.of(null, null));
+        assertThat(view.contains(Tuple.of("foo", 2))).isFalse();
+        assertThat(view.contains(Tuple.of("bar", null))).isFalse();
+        assertThat(view.contains("foo")).isFalse();
+        assertThat(view).isEqualTo(Tuples.from(map)).hasSameHashCodeAs(Tuples.from(map));
+
+        map.put("bar", 2);
+        assertThat(view).hasSize(3).contains(Tuple.of("bar", 2));
+        assertThat(view.parallelStream().map(Tuple::getFirst)).containsExactlyInAnyOrder("foo", "bar", null);
+    }
+
+    @Test
+    void view_method_cannot_modify_map() {
+        Map<String, Integer> map = new TreeMap<>(Collections.singletonMap("foo", 1));
+        Set<Tuple<String, Integer>> view = Tuples.view(map);
+
+        assertThatThrownBy(() -> view.add(Tuple.of("bar", 2))).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> view.remove(Tuple.of("foo", 1))).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(view::clear).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(view.spliterator().hasCharacteristics(Spliterator.SORTED)).isFalse();
+        assertThat(map).containsOnlyKeys("foo");
+    }
+
     @Test
     void from_method_handles_null_items_from_input_Iterable() {
         List<String> list = Arrays.asList("foo", null, null, "bar", null, "baz");
@@ -232,6 +320,30 @@ public class TuplesTest {
                 assertThat(tuple.getSecond()).isEqualTo(tuple.getFirst() + 1));
     }
 
+    @Test
+    void collect_a_large_parallel_stream_with_odd_number_of_items_into_tuples() {
+        List<Tuple<Integer, Integer>> tuples = IntStream.range(0, 100_001).boxed()
+                .parallel()
+                .collect(Tuples.collector());
+
+        assertThat(tuples).hasSize(50_001);
+        for (int i = 0; i < 50_000; ++i) {
+            assertThat(tuples.get(i)).isEqualTo(Tuple.of(2 * i, 2 * i + 1));
+        }
+        assertThat(tuples.get(50_000)).isEqualTo(Tuple.of(100_000, null));
+        assertThat(tuples.get(50_000).isPartial()).isTrue();
+    }
+
+    @Test
+    void collector_collects_into_supplied_list() {
+        List<Tuple<String, String>> tuples = Stream.of("foo", "bar", "baz")
+                .parallel()
+                .collect(Tuples.collector(LinkedList::new));
+
+        assertThat(tuples).isInstanceOf(LinkedList.class);
+        assertThat(tuples).containsExactly(Tuple.of("foo", "bar"), Tuple.of("baz", null));
+    }
+
     @Test
     void tuplesCollector_can_handle_nulls_emitted_from_stream() {
         List<String> list = Arrays.asList("foo", null, "bar", "baz", null, "buk");
@@ -411,6 +523,633 @@ public class TuplesTest {
         assertThat(unzipped.getSecond()).containsExactly("foo", null, "bar", "baz");
     }
 
+    @Test
+    void unzip_sized_and_unsized_streams() {
+        Tuple<List<String>, List<Integer>> sized = Tuples.unzip(Stream.of(Tuple.of("foo", 1), Tuple.of("bar", 2)));
+        assertThat(sized.getFirst()).containsExactly("foo", "bar");
+        assertThat(sized.getSecond()).containsExactly(1, 2);
+
+        Tuple<List<String>, List<Integer>> unsized = Tuples.unzip(Stream.of(Tuple.of("foo", 1), Tuple.of("bar", 2))
+                .filter(tuple -> tuple.getSecond() > 1));
+        assertThat(unsized.getFirst()).containsExactly("bar");
+        assertThat(unsized.getSecond()).containsExactly(2);
+    }
+
+    @Test
+    void parallelUnzip_matches_unzip_for_random_access_and_linked_lists() {
+        List<Tuple<Integer, String>> tuples = new ArrayList<>();
+        for (int i = 0; i < 50_000; ++i) {
+            tuples.add(Tuple.of(i % 7 == 0 ? null : i, "s" + i));
+        }
+        Tuple<List<Integer>, List<String>> expected = Tuples.unzip(tuples);
+
+        assertThat(Tuples.parallelUnzip(tuples)).isEqualTo(expected);
+        assertThat(Tuples.parallelUnzip(new LinkedList<>(tuples))).isEqualTo(expected);
+        assertThat(Tuples.parallelUnzip(Collections.<Tuple<Integer, String>>emptyList()))
+                .isEqualTo(Tuple.of(Collections.emptyList(), Collections.emptyList()));
+    }
+
+    @Test
+    void unzipTo_primitive_arrays_applies_mapper_per_side() {
+        List<Tuple<String, Integer>> tuples = Arrays.asList(Tuple.of("a", 1), Tuple.of("bcd", 20));
+
+        Tuple<int[], int[]> ints = Tuples.unzipToInts(tuples, String::length, Integer::intValue);
+        assertThat(ints.getFirst()).containsExactly(1, 3);
+        assertThat(ints.getSecond()).containsExactly(1, 20);
+
+        Tuple<long[], long[]> longs = Tuples.unzipToLongs(tuples, String::length, value -> value * 10L);
+        assertThat(longs.getFirst()).containsExactly(1L, 3L);
+        assertThat(longs.getSecond()).containsExactly(10L, 200L);
+
+        Tuple<double[], double[]> doubles = Tuples.unzipToDoubles(tuples, String::length, value -> value / 2.0);
+        assertThat(doubles.getFirst()).containsExactly(1.0, 3.0);
+        assertThat(doubles.getSecond()).containsExactly(0.5, 10.0);
+    }
+
+    @Test
+    void zip_primitive_arrays_pads_shorter_array_with_zero() {
+        assertThat(Tuples.zip(new int[]{1, 2, 3}, new int[]{4, 5}))
+                .containsExactly(IntIntTuple.of(1, 4), IntIntTuple.of(2, 5), IntIntTuple.of(3, 0));
+        assertThat(Tuples.zip(new long[]{1L}, new long[]{4L, 5L}))
+                .containsExactly(LongLongTuple.of(1L, 4L), LongLongTuple.of(0L, 5L));
+        assertThat(Tuples.zip(new double[0], new double[0])).isEmpty();
+    }
+
+    @Test
+    void unzip_primitive_tuples_into_arrays() {
+        Tuple<int[], int[]> ints = Tuples.unzipInts(Arrays.asList(IntIntTuple.of(1, 2), IntIntTuple.of(3, 4)));
+        assertThat(ints.getFirst()).containsExactly(1, 3);
+        assertThat(ints.getSecond()).containsExactly(2, 4);
+
+        Tuple<long[], long[]> longs = Tuples.unzipLongs(Collections.singletonList(LongLongTuple.of(5L, 6L)));
+        assertThat(longs.getFirst()).containsExactly(5L);
+        assertThat(longs.getSecond()).containsExactly(6L);
+
+        Tuple<double[], double[]> doubles = Tuples.unzipDoubles(Collections.emptyList());
+        assertThat(doubles.getFirst()).isEmpty();
+        assertThat(doubles.getSecond()).isEmpty();
+    }
+
+    @Test
+    void map_primitive_keyed_tuples() {
+        Map<Integer, String> intKeyed = Tuples.mapIntKeys(Arrays.asList(
+                IntObjTuple.of(1, "foo"),
+                IntObjTuple.of(2, null)
+        ));
+        assertThat(intKeyed).containsOnlyKeys(1, 2);
+        assertThat(intKeyed.get(1)).isEqualTo("foo");
+        assertThat(intKeyed.get(2)).isNull();
+
+        Map<Long, String> longKeyed = Tuples.mapLongKeys(Collections.singleton(LongObjTuple.of(7L, "bar")));
+        assertThat(longKeyed).containsEntry(7L, "bar");
+    }
+
+    @Test
+    void map_primitive_keyed_tuples_throws_IllegalStateException_when_duplicate_first_members() {
+        assertThatIllegalStateException().isThrownBy(() ->
+                Tuples.mapIntKeys(Arrays.asList(IntObjTuple.of(1, "foo"), IntObjTuple.of(1, "bar"))));
+        assertThatIllegalStateException().isThrownBy(() ->
+                Tuples.mapLongKeys(Arrays.asList(LongObjTuple.of(1L, "foo"), LongObjTuple.of(1L, null))));
+    }
+
+    @Test
+    void zipView_pairs_items_by_index() {
+        List<Integer> firstItems = Arrays.asList(1, 2, 3);
+        List<String> secondItems = Arrays.asList("foo", "bar");
+
+        List<Tuple<Integer, String>> view = Tuples.zipView(firstItems, secondItems);
+
+        assertThat(view).hasSize(3);
+        assertThat(view.get(1)).isEqualTo(Tuple.of(2, "bar"));
+        assertThat(view).containsExactly(Tuple.of(1, "foo"), Tuple.of(2, "bar"), Tuple.of(3, null));
+        assertThat(view).isInstanceOf(RandomAccess.class);
+        assertThatThrownBy(() -> view.get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void zipView_reflects_changes_to_backing_lists_and_is_unmodifiable() {
+        List<String> firstItems = new ArrayList<>(Arrays.asList("foo"));
+        List<String> secondItems = new LinkedList<>();
+
+        List<Tuple<String, String>> view = Tuples.zipView(firstItems, secondItems);
+        assertThat(view).containsExactly(Tuple.of("foo", null));
+        assertThat(view).isNotInstanceOf(RandomAccess.class);
+
+        secondItems.add("bar");
+        secondItems.add("baz");
+        assertThat(view).containsExactly(Tuple.of("foo", "bar"), Tuple.of(null, "baz"));
+
+        assertThatThrownBy(() -> view.add(Tuple.of("X", "Y"))).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void zipIterable_pairs_items_lazily() {
+        Iterator<Integer> infinite = IntStream.iterate(0, i -> i + 1).iterator();
+        Iterable<Tuple<Integer, String>> zipped = Tuples.zipIterable(() -> infinite, Arrays.asList("foo", "bar"));
+
+        Iterator<Tuple<Integer, String>> iterator = zipped.iterator();
+        assertThat(iterator.next()).isEqualTo(Tuple.of(0, "foo"));
+        assertThat(iterator.next()).isEqualTo(Tuple.of(1, "bar"));
+        assertThat(iterator.next()).isEqualTo(Tuple.of(2, null));
+    }
+
+    @Test
+    void zipIterable_can_be_iterated_repeatedly() {
+        Iterable<Tuple<String, Integer>> zipped = Tuples.zipIterable(Arrays.asList("foo"), Arrays.asList(1, 2));
+
+        assertThat(zipped).containsExactly(Tuple.of("foo", 1), Tuple.of(null, 2));
+        assertThat(zipped).containsExactly(Tuple.of("foo", 1), Tuple.of(null, 2));
+    }
+
+    @Test
+    void zipIterable_iterator_throws_when_exhausted() {
+        Iterator<Tuple<String, Integer>> iterator = Tuples.zipIterable(Arrays.asList("foo"), Arrays.asList(1, 2))
+                .iterator();
+        iterator.next();
+        iterator.next();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> Tuples.zipView(Collections.emptyList(), Collections.emptyList()).iterator().next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void zipStream_of_random_access_lists_is_sized_and_splits_by_index() {
+        List<Integer> firstItems = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        List<Integer> secondItems = IntStream.range(0, 9_000).map(i -> -i).boxed().collect(Collectors.toList());
+
+        Spliterator<Tuple<Integer, Integer>> spliterator = Tuples.zipStream(firstItems, secondItems).spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED))
+                .isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(10_000);
+        Spliterator<Tuple<Integer, Integer>> prefix = spliterator.trySplit();
+        assertThat(prefix.getExactSizeIfKnown()).isEqualTo(5_000);
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(5_000);
+
+        List<Tuple<Integer, Integer>> tuples = Tuples.zipStream(firstItems, secondItems)
+                .parallel()
+                .collect(Collectors.toList());
+        assertThat(tuples).isEqualTo(Tuples.zip(firstItems, secondItems));
+    }
+
+    @Test
+    void zipStream_of_arrays_pads_shorter_array_with_nulls() {
+        Stream<Tuple<String, Integer>> stream = Tuples.zipStream(new String[]{"foo"}, new Integer[]{1, 2});
+
+        assertThat(stream).containsExactly(Tuple.of("foo", 1), Tuple.of(null, 2));
+    }
+
+    @Test
+    void zipStream_of_iterables_is_sized_only_when_both_are() {
+        Stream<Tuple<String, Integer>> sized = Tuples.zipStream(
+                new HashSet<>(Arrays.asList("foo", "bar")),
+                Arrays.asList(1, 2, 3));
+        assertThat(sized.spliterator().getExactSizeIfKnown()).isEqualTo(3);
+
+        Stream<Tuple<String, Integer>> unsized = Tuples.zipStream(
+                new NonCollectionIterable<>(Arrays.asList("foo", "bar")),
+                Arrays.asList(1, 2, 3));
+        assertThat(unsized.spliterator().getExactSizeIfKnown()).isEqualTo(-1);
+
+        assertThat(Tuples.zipStream(new NonCollectionIterable<>(Arrays.asList("foo", "bar")), Arrays.asList(1)))
+                .containsExactly(Tuple.of("foo", 1), Tuple.of("bar", null));
+    }
+
+    @Test
+    void zipStream_of_streams_preserves_order_in_parallel() {
+        Stream<Integer> firstItems = IntStream.range(0, 10_000).boxed().parallel();
+        Stream<Integer> secondItems = IntStream.range(0, 10_000).map(i -> i * 2).boxed();
+
+        Stream<Tuple<Integer, Integer>> zipped = Tuples.zipStream(firstItems, secondItems);
+        assertThat(zipped.isParallel()).isTrue();
+
+        List<Tuple<Integer, Integer>> tuples = zipped.collect(Collectors.toList());
+        assertThat(tuples).hasSize(10_000);
+        for (int i = 0; i < tuples.size(); ++i) {
+            assertThat(tuples.get(i)).isEqualTo(Tuple.of(i, i * 2));
+        }
+    }
+
+    @Test
+    void zipStream_of_streams_closes_both_streams() {
+        List<String> closed = new ArrayList<>();
+        Stream<String> firstItems = Stream.of("foo").onClose(() -> closed.add("first"));
+        Stream<String> secondItems = Stream.of("bar").onClose(() -> closed.add("second"));
+
+        Tuples.zipStream(firstItems, secondItems).close();
+
+        assertThat(closed).containsExactly("first", "second");
+    }
+
+    @Test
+    void columnsFrom_pairs_adjacent_items() {
+        TupleColumns<String, String> columns = Tuples.columnsFrom(Arrays.asList("A", "B", "C"));
+        assertThat(columns.asList()).containsExactly(Tuple.of("A", "B"), Tuple.of("C", null));
+
+        TupleColumns<String, String> fromIterable = Tuples.columnsFrom(
+                new NonCollectionIterable<>(Arrays.asList("A", "B")));
+        assertThat(fromIterable.asList()).containsExactly(Tuple.of("A", "B"));
+    }
+
+    @Test
+    void zipColumns_pads_shorter_input_with_nulls() {
+        TupleColumns<Integer, String> fromArrays = Tuples.zipColumns(new Integer[]{1, 2}, new String[]{"foo"});
+        assertThat(fromArrays.asList()).containsExactly(Tuple.of(1, "foo"), Tuple.of(2, null));
+
+        TupleColumns<Integer, String> fromIterables = Tuples.zipColumns(
+                new NonCollectionIterable<>(Arrays.asList(1)),
+                Arrays.asList("foo", "bar"));
+        assertThat(fromIterables.asList()).containsExactly(Tuple.of(1, "foo"), Tuple.of(null, "bar"));
+    }
+
+    @Test
+    void unzipColumns_holds_members_of_tuples() {
+        TupleColumns<Integer, String> columns = Tuples.unzipColumns(Arrays.asList(
+                Tuple.of(1, "foo"),
+                Tuple.of(null, "bar")
+        ));
+
+        assertThat(columns.firsts()).containsExactly(1, null);
+        assertThat(columns.seconds()).containsExactly("foo", "bar");
+    }
+
+    @Test
+    void join_pairs_second_members_of_matching_first_members() {
+        Stream<Tuple<Integer, String>> left = Stream.of(Tuple.of(1, "a"), Tuple.of(2, "b"), Tuple.of(1, "c"));
+        Stream<Tuple<Integer, Double>> right = Stream.of(Tuple.of(1, 1.0), Tuple.of(3, 3.0), Tuple.of(1, 1.5));
+
+        assertThat(Tuples.join(left, right)).containsExactly(
+                Tuple.of("a", 1.0), Tuple.of("a", 1.5), Tuple.of("c", 1.0), Tuple.of("c", 1.5));
+    }
+
+    @Test
+    void join_builds_on_smaller_sized_side_and_emits_in_larger_sides_order() {
+        List<Tuple<Integer, String>> left = Arrays.asList(Tuple.of(2, "b"), Tuple.of(1, "a"));
+        List<Tuple<Integer, Integer>> right = Arrays.asList(Tuple.of(1, 10), Tuple.of(2, 20), Tuple.of(2, 21));
+
+        assertThat(Tuples.join(left.stream(), right.stream())).containsExactly(
+                Tuple.of("a", 10), Tuple.of("b", 20), Tuple.of("b", 21));
+    }
+
+    @Test
+    void join_matches_null_first_members() {
+        Stream<Tuple<String, String>> left = Stream.of(Tuple.of(null, "a"), Tuple.of("x", "b"));
+        Stream<Tuple<String, String>> right = Stream.of(Tuple.of(null, "c"));
+
+        assertThat(Tuples.join(left, right)).containsExactly(Tuple.of("a", "c"));
+    }
+
+    @Test
+    void join_does_not_consume_arguments_until_terminal_operation() {
+        List<Integer> consumed = new ArrayList<>();
+        Stream<Tuple<Integer, String>> left = Stream.of(Tuple.of(1, "a")).peek(tuple -> consumed.add(1));
+        Stream<Tuple<Integer, String>> right = Stream.of(Tuple.of(1, "b")).peek(tuple -> consumed.add(2));
+
+        Stream<Tuple<String, String>> joined = Tuples.join(left, right);
+        assertThat(consumed).isEmpty();
+
+        assertThat(joined).containsExactly(Tuple.of("a", "b"));
+        assertThat(consumed).containsExactly(2, 1);
+    }
+
+    @Test
+    void parallel_join_matches_sequential_join() {
+        List<Tuple<Integer, Integer>> left = IntStream.range(0, 10_000)
+                .mapToObj(i -> Tuple.of(i % 1_000, i))
+                .collect(Collectors.toList());
+        List<Tuple<Integer, Integer>> right = IntStream.range(0, 500)
+                .mapToObj(i -> Tuple.of(i * 3, -i))
+                .collect(Collectors.toList());
+
+        List<Tuple<Integer, Integer>> sequential = Tuples.join(left.stream(), right.stream())
+                .collect(Collectors.toList());
+        List<Tuple<Integer, Integer>> parallel = Tuples.join(left.parallelStream(), right.stream())
+                .collect(Collectors.toList());
+
+        assertThat(sequential).hasSize(3_340);
+        assertThat(parallel).isEqualTo(sequential);
+    }
+
+    @Test
+    void leftJoin_keeps_unmatched_left_tuples() {
+        Stream<Tuple<Integer, String>> left = Stream.of(Tuple.of(1, "a"), Tuple.of(2, "b"), Tuple.of(null, "c"));
+        Stream<Tuple<Integer, String>> right = Stream.of(Tuple.of(1, "x"), Tuple.of(3, "y"));
+
+        assertThat(Tuples.leftJoin(left, right)).containsExactly(
+                Tuple.of("a", "x"), Tuple.of("b", null), Tuple.of("c", null));
+    }
+
+    @Test
+    void fullJoin_keeps_unmatched_tuples_of_both_sides() {
+        Stream<Tuple<Integer, String>> left = Stream.of(Tuple.of(1, "a"), Tuple.of(2, "b"));
+        Stream<Tuple<Integer, String>> right = Stream.of(Tuple.of(1, "x"), Tuple.of(3, "y"), Tuple.of(3, "z"));
+
+        assertThat(Tuples.fullJoin(left, right)).containsExactly(
+                Tuple.of("a", "x"), Tuple.of("b", null), Tuple.of(null, "y"), Tuple.of(null, "z"));
+    }
+
+    @Test
+    void parallel_fullJoin_emits_each_unmatched_right_tuple_once() {
+        Stream<Tuple<Integer, Integer>> left = IntStream.range(0, 10_000).parallel().mapToObj(i -> Tuple.of(i, i));
+        Stream<Tuple<Integer, Integer>> right = IntStream.range(5_000, 15_000).mapToObj(i -> Tuple.of(i, -i));
+
+        List<Tuple<Integer, Integer>> joined = Tuples.fullJoin(left, right).collect(Collectors.toList());
+
+        assertThat(joined).hasSize(15_000);
+        assertThat(joined.stream().filter(tuple -> tuple.getFirst() == null)).hasSize(5_000);
+        assertThat(joined.stream().filter(tuple -> tuple.getSecond() == null)).hasSize(5_000);
+    }
+
+    @Test
+    void closing_joined_stream_closes_both_arguments() {
+        List<String> closed = new ArrayList<>();
+        Stream<Tuple<Integer, String>> left = Stream.of(Tuple.of(1, "a")).onClose(() -> closed.add("left"));
+        Stream<Tuple<Integer, String>> right = Stream.of(Tuple.of(1, "b")).onClose(() -> closed.add("right"));
+
+        Tuples.fullJoin(left, right).close();
+
+        assertThat(closed).containsExactly("left", "right");
+    }
+
+    @Test
+    void mergeJoin_pairs_runs_of_equal_first_members() {
+        Iterator<Tuple<Integer, String>> left = Arrays.asList(
+                Tuple.of(1, "a"), Tuple.of(2, "b"), Tuple.of(2, "c"), Tuple.of(4, "d"), Tuple.of(5, "e")).iterator();
+        Iterator<Tuple<Integer, Integer>> right = Arrays.asList(
+                Tuple.of(0, 0), Tuple.of(2, 20), Tuple.of(2, 21), Tuple.of(3, 30), Tuple.of(5, 50)).iterator();
+
+        List<Tuple<String, Integer>> joined = new ArrayList<>();
+        Tuples.mergeJoin(left, right).forEachRemaining(joined::add);
+
+        assertThat(joined).containsExactly(
+                Tuple.of("b", 20), Tuple.of("b", 21), Tuple.of("c", 20), Tuple.of("c", 21), Tuple.of("e", 50));
+    }
+
+    @Test
+    void mergeJoin_orders_null_first_members_first() {
+        Stream<Tuple<String, Integer>> left = Stream.of(Tuple.of(null, 1), Tuple.of("a", 2));
+        Stream<Tuple<String, Integer>> right = Stream.of(Tuple.of(null, 10), Tuple.of(null, 11), Tuple.of("a", 20));
+
+        assertThat(Tuples.mergeJoin(left, right)).containsExactly(Tuple.of(1, 10), Tuple.of(1, 11), Tuple.of(2, 20));
+    }
+
+    @Test
+    void mergeJoin_matches_hash_join_of_sorted_streams() {
+        List<Tuple<Integer, Integer>> left = IntStream.range(0, 3_000)
+                .mapToObj(i -> Tuple.of(i / 3, i))
+                .collect(Collectors.toList());
+        List<Tuple<Integer, Integer>> right = IntStream.range(0, 2_000)
+                .mapToObj(i -> Tuple.of(i / 2 * 3, -i))
+                .collect(Collectors.toList());
+
+        assertThat(Tuples.mergeJoin(left.stream(), right.stream()).collect(Collectors.toList()))
+                .isEqualTo(Tuples.join(left.stream(), right.stream()).collect(Collectors.toList()));
+    }
+
+    @Test
+    void mergeJoin_uses_given_comparator() {
+        Stream<Tuple<Integer, String>> left = Stream.of(Tuple.of(3, "c"), Tuple.of(1, "a"));
+        Stream<Tuple<Integer, String>> right = Stream.of(Tuple.of(3, "x"), Tuple.of(2, "y"), Tuple.of(1, "z"));
+
+        assertThat(Tuples.mergeJoin(left, right, Comparator.reverseOrder()))
+                .containsExactly(Tuple.of("c", "x"), Tuple.of("a", "z"));
+    }
+
+    @Test
+    void mergeJoin_rejects_unsorted_arguments() {
+        Iterator<Tuple<String, String>> unsortedLeft = Tuples.mergeJoin(
+                Arrays.asList(Tuple.of(2, "a"), Tuple.of(1, "b")).iterator(),
+                Arrays.asList(Tuple.of(2, "x")).iterator());
+        assertThat(unsortedLeft.next()).isEqualTo(Tuple.of("a", "x"));
+        assertThatIllegalStateException().isThrownBy(unsortedLeft::hasNext);
+
+        Iterator<Tuple<String, String>> unsortedRight = Tuples.mergeJoin(
+                Arrays.asList(Tuple.of(3, "a")).iterator(),
+                Arrays.asList(Tuple.of(2, "x"), Tuple.of(1, "y")).iterator());
+        assertThatIllegalStateException().isThrownBy(unsortedRight::hasNext);
+    }
+
+    @Test
+    void mergeJoin_does_not_consume_arguments_until_iterated() {
+        List<Integer> consumed = new ArrayList<>();
+        Stream<Tuple<Integer, String>> left = Stream.of(Tuple.of(1, "a")).peek(tuple -> consumed.add(1));
+        Stream<Tuple<Integer, String>> right = Stream.of(Tuple.of(1, "b")).peek(tuple -> consumed.add(2));
+
+        Stream<Tuple<String, String>> joined = Tuples.mergeJoin(left, right);
+        assertThat(consumed).isEmpty();
+
+        assertThat(joined).containsExactly(Tuple.of("a", "b"));
+    }
+
+    @Test
+    void groupReduce_reduces_second_members_per_first_member() {
+        List<Tuple<String, Integer>> tuples = Arrays.asList(
+                Tuple.of("foo", 1), Tuple.of(null, 2), Tuple.of("foo", 3), Tuple.of("bar", 4), Tuple.of(null, 5));
+
+        Map<String, Long> counts = Tuples.groupReduce(tuples, Aggregator.count());
+        Map<String, Long> sums = Tuples.groupReduce(tuples.stream(), Aggregator.summingLong(Integer::longValue));
+
+        assertThat(counts).hasSize(3).containsEntry("foo", 2L).containsEntry(null, 2L).containsEntry("bar", 1L);
+        assertThat(sums).hasSize(3).containsEntry("foo", 4L).containsEntry(null, 7L).containsEntry("bar", 4L);
+    }
+
+    @Test
+    void parallel_groupReduce_matches_sequential_groupReduce() {
+        List<Tuple<Integer, Integer>> tuples = IntStream.range(0, 100_000)
+                .mapToObj(i -> Tuple.of(i % 1_000 == 0 ? null : i % 1_000, i))
+                .collect(Collectors.toList());
+
+        assertThat(Tuples.groupReduce(tuples.parallelStream(), Aggregator.first()))
+                .isEqualTo(Tuples.groupReduce(tuples, Aggregator.first()));
+        assertThat(Tuples.groupReduce(tuples.parallelStream(), Aggregator.toList()))
+                .isEqualTo(Tuples.mapAll(tuples));
+    }
+
+    @Test
+    void concurrentMapCollector_supports_null_members() {
+        List<Tuple<String, Integer>> tuples = Arrays.asList(
+                Tuple.of("foo", 1), Tuple.of(null, 2), Tuple.of("bar", null));
+
+        Map<String, Integer> map = tuples.stream().collect(Tuples.concurrentMapCollector());
+
+        assertThat(map).hasSize(3).containsEntry("foo", 1).containsEntry(null, 2).containsEntry("bar", null);
+        Map<String, Integer> expected = new HashMap<>();
+        tuples.forEach(tuple -> expected.put(tuple.getFirst(), tuple.getSecond()));
+        assertThat(map).isEqualTo(expected);
+        assertThat(map.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void parallel_concurrentMapCollector_matches_map() {
+        List<Tuple<Integer, Integer>> tuples = IntStream.range(0, 100_000)
+                .mapToObj(i -> Tuple.of(i == 0 ? null : i, -i))
+                .collect(Collectors.toList());
+
+        Map<Integer, Integer> map = tuples.parallelStream().collect(Tuples.concurrentMapCollector());
+
+        assertThat(map).isEqualTo(Tuples.map(tuples));
+    }
+
+    @Test
+    void concurrentMapCollector_rejects_duplicate_keys() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> IntStream.range(0, 10_000).parallel()
+                        .<Tuple<Integer, Integer>>mapToObj(i -> Tuple.of(i == 9_999 ? null : i % 5_000, i))
+                        .collect(Tuples.concurrentMapCollector()))
+                .withMessageContaining("Duplicate key");
+    }
+
+    @Test
+    void parallel_concurrentMapAllCollector_matches_mapAll_up_to_order() {
+        List<Tuple<Integer, Integer>> tuples = IntStream.range(0, 100_000)
+                .mapToObj(i -> Tuple.of(i % 7 == 0 ? null : i % 100, i))
+                .collect(Collectors.toList());
+
+        Map<Integer, List<Integer>> map = tuples.parallelStream().collect(Tuples.concurrentMapAllCollector());
+        Map<Integer, List<Integer>> expected = Tuples.mapAll(tuples);
+
+        assertThat(map).hasSameSizeAs(expected);
+        expected.forEach((key, values) -> assertThat(map.get(key)).containsExactlyInAnyOrderElementsOf(values));
+    }
+
+    @Test
+    void comparator_orders_by_first_then_second_member() {
+        List<Tuple<String, Integer>> tuples = new ArrayList<>(Arrays.asList(
+                Tuple.of("bb", 1), Tuple.of("a", 2), Tuple.of("bb", 0), Tuple.of("ccc", 3)));
+
+        tuples.sort(Tuples.comparator(Comparator.comparing(String::length).reversed(), Comparator.reverseOrder()));
+
+        assertThat(tuples).containsExactly(Tuple.of("ccc", 3), Tuple.of("bb", 1), Tuple.of("bb", 0), Tuple.of("a", 2));
+    }
+
+    @Test
+    void naturalOrder_matches_compareTo() {
+        List<Tuple<String, Integer>> tuples = Arrays.asList(
+                Tuple.of("b", 1), Tuple.of(null, 2), Tuple.of("a", null), Tuple.of("a", 1), Tuple.of(null, null));
+        List<Tuple<String, Integer>> sorted = new ArrayList<>(tuples);
+        sorted.sort(Tuples.naturalOrder());
+
+        List<Tuple<String, Integer>> expected = new ArrayList<>(tuples);
+        Collections.sort(expected);
+
+        assertThat(sorted).isEqualTo(expected).startsWith(Tuple.of(null, null), Tuple.of(null, 2));
+    }
+
+    @Test
+    void naturalOrder_can_place_nulls_last() {
+        List<Tuple<String, Integer>> tuples = new ArrayList<>(Arrays.asList(
+                Tuple.of(null, 1), Tuple.of("a", null), Tuple.of("a", 1)));
+
+        tuples.sort(Tuples.naturalOrder(Tuples.NullOrder.LAST));
+
+        assertThat(tuples).containsExactly(Tuple.of("a", 1), Tuple.of("a", null), Tuple.of(null, 1));
+    }
+
+    @Test
+    void primitive_key_comparators_order_by_extracted_keys() {
+        List<Tuple<String, String>> tuples = new ArrayList<>(Arrays.asList(
+                Tuple.of("ccc", "x"), Tuple.of("a", "yy"), Tuple.of("bb", "zzz"), Tuple.of("a", "w")));
+
+        tuples.sort(Tuples.comparingInt(String::length, String::length));
+        assertThat(tuples).containsExactly(
+                Tuple.of("a", "w"), Tuple.of("a", "yy"), Tuple.of("bb", "zzz"), Tuple.of("ccc", "x"));
+
+        tuples.sort(Tuples.comparingLong(first -> -first.length(), String::length));
+        assertThat(tuples).containsExactly(
+                Tuple.of("ccc", "x"), Tuple.of("bb", "zzz"), Tuple.of("a", "w"), Tuple.of("a", "yy"));
+
+        tuples.sort(Tuples.comparingDouble(first -> 0.0, second -> -second.length()));
+        assertThat(tuples).containsExactly(
+                Tuple.of("bb", "zzz"), Tuple.of("a", "yy"), Tuple.of("ccc", "x"), Tuple.of("a", "w"));
+    }
+
+    @Test
+    void sort_orders_int_pairs_as_compareTo_does() {
+        for (int size : new int[]{0, 1, 100, 10_000, PairSorts.PARALLEL_THRESHOLD * 2}) {
+            Random random = new Random(size);
+            int[] firsts = random.ints(size, -50, 50).toArray();
+            int[] seconds = random.ints(size).toArray();
+            if (size > 0) {
+                firsts[0] = Integer.MIN_VALUE;
+                seconds[size - 1] = Integer.MAX_VALUE;
+            }
+            List<IntIntTuple> expected = Tuples.zip(firsts, seconds);
+            Collections.sort(expected);
+            int[] parallelFirsts = firsts.clone();
+            int[] parallelSeconds = seconds.clone();
+
+            Tuples.sort(firsts, seconds);
+            Tuples.parallelSort(parallelFirsts, parallelSeconds);
+
+            assertThat(Tuples.zip(firsts, seconds)).isEqualTo(expected);
+            assertThat(Tuples.zip(parallelFirsts, parallelSeconds)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void sort_orders_long_pairs_as_compareTo_does() {
+        for (int size : new int[]{0, 1, 100, 10_000, PairSorts.PARALLEL_THRESHOLD * 2}) {
+            Random random = new Random(size);
+            long[] firsts = random.longs(size).map(l -> l % 3 == 0 ? l : l >> 40).toArray();
+            long[] seconds = random.longs(size).toArray();
+            List<LongLongTuple> expected = Tuples.zip(firsts, seconds);
+            Collections.sort(expected);
+            long[] parallelFirsts = firsts.clone();
+            long[] parallelSeconds = seconds.clone();
+
+            Tuples.sort(firsts, seconds);
+            Tuples.parallelSort(parallelFirsts, parallelSeconds);
+
+            assertThat(Tuples.zip(firsts, seconds)).isEqualTo(expected);
+            assertThat(Tuples.zip(parallelFirsts, parallelSeconds)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void sort_rejects_arrays_of_different_lengths() {
+        assertThatThrownBy(() -> Tuples.sort(new int[1], new int[2])).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Tuples.parallelSort(new long[2], new long[1]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void pairs_matches_zip_of_arrays() {
+        String[] firsts = {"foo", null, "bar"};
+        Integer[] seconds = {1, 2};
+
+        List<Tuple<String, Integer>> pairs = Tuples.pairs(firsts, seconds);
+
+        assertThat(pairs).isEqualTo(Tuples.zip(firsts, seconds)).isInstanceOf(RandomAccess.class);
+        assertThat(pairs).allMatch(tuple -> tuple instanceof Serializable);
+    }
+
+    @Test
+    void pairs_checks_elements_of_arrays_of_non_serializable_type() {
+        Object[] firsts = {"foo", new Object(), null};
+        Object[] seconds = {1, 2, 3};
+
+        List<Tuple<Object, Object>> pairs = Tuples.pairs(firsts, seconds);
+
+        assertThat(pairs.get(0)).isInstanceOf(Serializable.class);
+        assertThat(pairs.get(1)).isNotInstanceOf(Serializable.class);
+        assertThat(pairs.get(2)).isInstanceOf(Serializable.class);
+    }
+
+    @Test
+    void ofAll_pairs_items_with_mapped_values() {
+        List<Object> items = Arrays.asList("foo", "bar", new Object(), new Object(), null, 1);
+
+        List<Tuple<Object, Object>> tuples = Tuples.ofAll(items, item -> item instanceof String ? item : "value");
+
+        assertThat(tuples).hasSize(6).isInstanceOf(RandomAccess.class);
+        assertThat(tuples.get(0)).isEqualTo(Tuple.of("foo", "foo"));
+        for (Tuple<Object, Object> tuple : tuples) {
+            assertThat(tuple instanceof Serializable)
+                    .isEqualTo(Tuple.of(tuple.getFirst(), tuple.getSecond()) instanceof Serializable);
+        }
+    }
+
     private static class NonCollectionIterable<S> implements Iterable<S> {
 
         private final Collection<S> collection;